@@ -3,10 +3,13 @@ import maze.routing.*;
 import maze.visualisation.*;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
 import javafx.scene.Group;
+import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
+import javafx.scene.control.Slider;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
@@ -24,7 +27,6 @@ import javafx.scene.effect.DropShadow;
 import javafx.stage.FileChooser;
 import javafx.stage.FileChooser.ExtensionFilter;
 import java.io.File;
-import javafx.scene.layout.GridPane;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 
@@ -36,8 +38,11 @@ import javafx.scene.control.Alert.AlertType;
 */
 public class MazeApplication extends Application {
 
-	private Button mapButton, loadButton, saveButton, exitButton, stepButton, finishButton;
-	private Text title;
+	private Button mapButton, loadButton, saveButton, exitButton, stepButton, finishButton, playButton, pauseButton, cancelButton;
+	private Text title, speedText;
+	private Slider speedSlider;
+	private SolveTask solveTask;
+	private AnimationTimer player;
 
 	/**
 	*	Initializes	JavaFX components to be ready to display.
@@ -51,6 +56,14 @@ public class MazeApplication extends Application {
 		exitButton = new Button("Exit");
 		stepButton = new Button("Step");
 		finishButton = new Button("Finish");
+		playButton = new Button("Play");
+		pauseButton = new Button("Pause");
+		cancelButton = new Button("Cancel");
+		// Steps per frame on a log scale, 10^0 to 10^6
+		speedSlider = new Slider(0, 6, 2);
+		speedText = new Text();
+		speedSlider.valueProperty().addListener((obs, old_value, new_value) -> speedText.setText(getStepsPerFrame() + " steps/frame"));
+		speedText.setText(getStepsPerFrame() + " steps/frame");
 
 		// Styling
 		Font fontTitle = Font.font("Courier New", FontWeight.BOLD, 46);
@@ -85,13 +98,30 @@ public class MazeApplication extends Application {
 		exitButton.setFont(fontButton);
 		exitButton.setStyle(buttonProp);
 
-		stepButton.setMinSize(200, 70);
+		stepButton.setMinSize(150, 70);
 		stepButton.setFont(fontButton);
 		stepButton.setStyle(buttonProp);
 
-		finishButton.setMinSize(200, 70);
+		finishButton.setMinSize(150, 70);
 		finishButton.setFont(fontButton);
 		finishButton.setStyle(buttonProp);
+
+		playButton.setMinSize(150, 70);
+		playButton.setFont(fontButton);
+		playButton.setStyle(buttonProp);
+
+		pauseButton.setMinSize(150, 70);
+		pauseButton.setFont(fontButton);
+		pauseButton.setStyle(buttonProp);
+
+		cancelButton.setMinSize(150, 70);
+		cancelButton.setFont(fontButton);
+		cancelButton.setStyle(buttonProp);
+
+		// Speed slider config
+		speedSlider.setMaxWidth(200);
+		speedText.setFont(Font.font("Courier New", 16));
+		speedText.setFill(Color.web("ffffff"));
 	}
 
 	/**
@@ -134,7 +164,7 @@ public class MazeApplication extends Application {
 			}catch (FileNotFoundException err) {
             	a.setContentText("Could not read route");
             	a.show();
-       		}catch (IOException | ClassNotFoundException err) {
+       		}catch (IOException err) {
             	a.setContentText("Problem when reading route");
             	a.show();
         	}catch(NullPointerException err){}
@@ -203,10 +233,9 @@ public class MazeApplication extends Application {
 	*	@return Returns Maze scene.
 	*	@throws NullPointerException if file path is left empty (i.e. FileChooser is cancelled)
 	*	@throws java.io.FileNotFoundException if the file does not exist, is a directory rather than a regular file, or for some other reason cannot be opened for reading
-	*	@throws java.io.IOException if an I/O error occurs while reading stream header
-	*	@throws ClassNotFoundException if class of a serialized object cannot be found
+	*	@throws java.io.IOException if an I/O error occurs while reading or the file is not a valid route file
 	*/
-	private Scene getRoute(Stage stage) throws NullPointerException, FileNotFoundException, IOException, ClassNotFoundException{
+	private Scene getRoute(Stage stage) throws NullPointerException, FileNotFoundException, IOException{
 		// Get route file
 		FileChooser fileChooser = new FileChooser();
 		fileChooser.setTitle("Open Route File");
@@ -226,7 +255,7 @@ public class MazeApplication extends Application {
 	*	@param mg MazeGrid object containing RouteFinder
 	*	@throws NullPointerException if file path is left empty (i.e. FileChooser is cancelled)
 	*	@throws java.io.FileNotFoundException if the file exists but is a directory rather than a regular file, does not exist but cannot be created, or cannot be opened for any other reason
-	*	@throws java.io.IOException if an I/O error occurs while writing stream header
+	*	@throws java.io.IOException if an I/O error occurs while writing
 	*/
 	private void saveRoute(Stage stage, MazeGrid mg) throws NullPointerException, FileNotFoundException, IOException{
 		// Create output file
@@ -246,8 +275,16 @@ public class MazeApplication extends Application {
 	*	@return Returns Maze scene.
 	*/
 	private Scene getMazeScene(Stage stage, MazeGrid mg){
+		// Stop solve of previous maze
+		if(solveTask != null)
+			solveTask.cancel();
+		setSolving(false);
+		if(player != null)
+			player.stop();
+		setPlaying(false);
+
 		// Get current state of MazeGrid
-		GridPane mazeGrid = mg.display();
+		Node mazeGrid = mg.display();
 		
 		Alert a = new Alert(AlertType.NONE);
 
@@ -259,9 +296,8 @@ public class MazeApplication extends Application {
 					a.setContentText("Maze already finished!");
 					a.show();
 				}else{
+					// Grid repaints the changed cells itself
 					mg.step();
-					Scene new_scene = getMazeScene(stage, mg);
-					changeScene(stage, new_scene, "Maze Solver");
 				}
 				
 			}catch(NoRouteFoundException err){
@@ -271,24 +307,67 @@ public class MazeApplication extends Application {
 			}
 		});
 		finishButton.setOnAction(e -> {
-			try{
-				if(mg.isFinished()){
-					a.setAlertType(AlertType.INFORMATION);
-					a.setContentText("Maze already finished!");
-					a.show();
-				}else{
-					while(!mg.isFinished())
-						mg.step();
-					Scene new_scene = getMazeScene(stage, mg);
-					changeScene(stage, new_scene, "Maze Solver");
-				}
-				
-			}catch(NoRouteFoundException err){
-				a.setAlertType(AlertType.ERROR);
-				a.setContentText("NoRouteFoundException:\nMaze has no solution");
+			if(mg.isFinished()){
+				a.setAlertType(AlertType.INFORMATION);
+				a.setContentText("Maze already finished!");
 				a.show();
+			}else{
+				// Solve on a background thread, grid is refreshed as the route changes
+				SolveTask task = new SolveTask(mg);
+				task.setOnSucceeded(done -> {
+					setSolving(false);
+					if(!task.getValue().isFound()){
+						a.setAlertType(AlertType.ERROR);
+						a.setContentText("NoRouteFoundException:\nMaze has no solution");
+						a.show();
+					}
+				});
+				task.setOnCancelled(done -> setSolving(false));
+				task.setOnFailed(done -> setSolving(false));
+				solveTask = task;
+				setSolving(true);
+				task.start();
 			}
 		});
+		playButton.setOnAction(e -> {
+			if(player != null){
+				player.stop();
+				setPlaying(false);
+			}else if(mg.isFinished()){
+				a.setAlertType(AlertType.INFORMATION);
+				a.setContentText("Maze already finished!");
+				a.show();
+			}else{
+				// Advance route once per frame, grid repaints the changed cells itself
+				player = new AnimationTimer(){
+					@Override
+					public void handle(long now){
+						SolveResult result = mg.step(getStepsPerFrame());
+						if(result.getStatus() != SolveResult.Status.RUNNING){
+							stop();
+							setPlaying(false);
+							if(!result.isFound()){
+								a.setAlertType(AlertType.ERROR);
+								a.setContentText("NoRouteFoundException:\nMaze has no solution");
+								a.show();
+							}
+						}
+					}
+				};
+				setPlaying(true);
+				player.start();
+			}
+		});
+		pauseButton.setOnAction(e -> {
+			if(solveTask != null){
+				solveTask.setPaused(!solveTask.isPaused());
+				pauseButton.setText(solveTask.isPaused() ? "Resume" : "Pause");
+			}
+		});
+		cancelButton.setOnAction(e -> {
+			if(solveTask != null)
+				solveTask.cancel();
+		});
 		saveButton.setOnAction(e -> {
 			try{
 				saveRoute(stage, mg);
@@ -304,9 +383,10 @@ public class MazeApplication extends Application {
 		});
 		 
 		// Maze Scene creation
-		VBox sideBox = new VBox(25, mapButton, loadButton, saveButton, exitButton);
+		VBox speedBox = new VBox(5, speedText, speedSlider);
+		VBox sideBox = new VBox(25, mapButton, loadButton, saveButton, exitButton, speedBox);
 		HBox content = new HBox(40, mazeGrid, sideBox);
-		HBox controlButtons = new HBox(30, stepButton, finishButton);
+		HBox controlButtons = new HBox(30, stepButton, finishButton, playButton, pauseButton, cancelButton);
 		VBox root = new VBox(30, title, content, controlButtons);
 		root.setAlignment(Pos.CENTER);
 		root.setBackground(Background.EMPTY);
@@ -318,4 +398,40 @@ public class MazeApplication extends Application {
 		return maze_scene;
 	}
 
+	/**
+	*	Enables the buttons which can be used while a {@link maze.visualisation.SolveTask} is or is not running.
+	*	@param solving is a maze being solved in the background
+	*/
+	private void setSolving(boolean solving){
+		if(!solving)
+			solveTask = null;
+		stepButton.setDisable(solving);
+		finishButton.setDisable(solving);
+		playButton.setDisable(solving);
+		saveButton.setDisable(solving);
+		pauseButton.setDisable(!solving);
+		cancelButton.setDisable(!solving);
+		pauseButton.setText("Pause");
+	}
+
+	/**
+	*	Enables the buttons which can be used while the route is or is not being played.
+	*	@param playing is the route being advanced every frame
+	*/
+	private void setPlaying(boolean playing){
+		if(!playing)
+			player = null;
+		stepButton.setDisable(playing);
+		finishButton.setDisable(playing);
+		playButton.setText(playing ? "Stop" : "Play");
+	}
+
+	/**
+	*	Returns number of steps made every frame while playing, from the log scale speed slider.
+	*	@return Returns number of steps per frame, between 1 and 1000000.
+	*/
+	private int getStepsPerFrame(){
+		return (int)Math.round(Math.pow(10, speedSlider.getValue()));
+	}
+
 }
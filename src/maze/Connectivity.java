@@ -0,0 +1,105 @@
+package maze;
+
+/** Index of the connected components of the navigable cells of a {@link Maze}.
+* <p>Built with a union-find pass over the packed grid: every navigable cell joins the component of its navigable neighbour to the west and merges it with that of its neighbour to the south, both of which have already been seen. A root is always linked under the smaller of the two roots, so every cell points to a cell before it, and a final pass in grid order then points every cell straight at its root. Building takes near-linear time and one int per cell, after which every lookup is a single array access.</p>
+* <p>Components are identified by their first cell in grid order, so two cells are connected exactly if they have the same component.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+* @see Maze#getConnectivity()
+*/
+public class Connectivity{
+	/**
+	*	Wall Tile type as stored in a packed grid
+	*/
+	private static final byte WALL = (byte)Tile.Type.WALL.ordinal();
+
+	/**
+	*	Component of every cell, indexed by y * width + x, -1 for walls
+	*/
+	private final int[] components;
+	/**
+	*	Number of components
+	*/
+	private final int count;
+
+	/**
+	*	Builds the connected components of a packed grid.
+	*	@param width number of columns
+	*	@param cells packed grid of Tile types, indexed by y * width + x
+	*/
+	Connectivity(int width, byte[] cells){
+		int[] parent = new int[cells.length];
+		int nr_components = 0;
+		for(int cell = 0, x = 0; cell < cells.length; cell++, x = x == width - 1 ? 0 : x + 1){
+			if(cells[cell] == WALL){
+				parent[cell] = -1;
+				continue;
+			}
+			// Join the component to the west, or start a new one
+			int root = x > 0 && cells[cell - 1] != WALL ? find(parent, cell - 1) : cell;
+			parent[cell] = root;
+			if(root == cell)
+				nr_components++;
+			// Merge with the component to the south
+			if(cell >= width && cells[cell - width] != WALL){
+				int other = find(parent, cell - width);
+				if(other < root){
+					parent[root] = other;
+					nr_components--;
+				}else if(other > root){
+					parent[other] = root;
+					nr_components--;
+				}
+			}
+		}
+
+		// Parents always come first, so they are already pointing at their roots
+		for(int cell = 0; cell < parent.length; cell++){
+			if(parent[cell] > 0)
+				parent[cell] = parent[parent[cell]];
+		}
+		components = parent;
+		count = nr_components;
+	}
+
+	/**
+	*	Returns root of the component of a navigable cell, halving the path to it on the way.
+	*	@param parent union-find parent of every cell
+	*	@param cell navigable cell
+	*	@return Returns root cell of the component.
+	*/
+	private static int find(int[] parent, int cell){
+		while(parent[cell] != cell){
+			parent[cell] = parent[parent[cell]];
+			cell = parent[cell];
+		}
+		return cell;
+	}
+
+	/**
+	*	Returns component of a cell.
+	*	@param index index of the cell (y * width + x)
+	*	@return Returns first cell of the component of the cell or -1 if it is a wall.
+	*/
+	public int getComponent(int index){
+		return components[index];
+	}
+
+	/**
+	*	Returns if there is a route between two cells.
+	*	@param from index of the first cell (y * width + x)
+	*	@param to index of the second cell (y * width + x)
+	*	@return Returns if both cells are navigable and in the same component.
+	*/
+	public boolean isConnected(int from, int to){
+		return components[from] != -1 && components[from] == components[to];
+	}
+
+	/**
+	*	Returns number of components.
+	*	@return Returns number of separate regions of navigable cells.
+	*/
+	public int getComponentCount(){
+		return count;
+	}
+}
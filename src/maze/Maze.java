@@ -1,13 +1,18 @@
 package maze;
 
 import java.util.*;
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 /** Class for maze objects made up of {@link Tile} objects.
+*	<p>Tiles are stored packed, one byte per cell, and {@link Tile} objects are only created on demand as views of the grid.</p>
+*	<p>Once loaded, only walls and corridors can be changed, with {@link #setTileType(Coordinate, Tile.Type)}. All solving state is kept by the solvers, so a Maze which is not being edited can be solved by many threads at once. Edits are not synchronised with searches, which must be started again after the maze changed, but they are with the cached connectivity index and content hash, so those always describe the maze as it is once an edit has returned.</p>
 * @author Andrei Hutu
 * @version 29th April 2021
 * @see Tile 
@@ -15,17 +20,90 @@ import java.io.Serializable;
 */
 public class Maze implements Serializable{
 	/**
-	*	Maze Entrance Tile
+	*	All Tile types, indexed by the values stored in {@link #cells}
 	*/
-	private Tile entrance;
+	private static final Tile.Type[] TYPES = Tile.Type.values();
 	/**
-	*	Maze Exit Tile
+	*	Size of the chunks in which .txt files are read
 	*/
-	private Tile exit;
+	private static final int CHUNK_SIZE = 1 << 20;
 	/**
-	*	2D List of Tiles which make up Maze object
+	*	Largest number of cells a Maze can hold
 	*/
-	private List<List<Tile>> tiles;
+	private static final int MAX_CELLS = Integer.MAX_VALUE - 8;
+	/**
+	*	Marks bytes of a .txt file which are not Tile chars in {@link #CHAR_TYPES}
+	*/
+	private static final byte INVALID = -1;
+	/**
+	*	Marks line terminator bytes of a .txt file in {@link #CHAR_TYPES}
+	*/
+	private static final byte NEWLINE = -2;
+	/**
+	*	Entrance Tile type as stored in {@link #cells}
+	*/
+	private static final byte ENTRANCE = (byte)Tile.Type.ENTRANCE.ordinal();
+	/**
+	*	Exit Tile type as stored in {@link #cells}
+	*/
+	private static final byte EXIT = (byte)Tile.Type.EXIT.ordinal();
+	/**
+	*	Wall Tile type as stored in {@link #cells}
+	*/
+	private static final byte WALL = (byte)Tile.Type.WALL.ordinal();
+	/**
+	*	First multiplier of {@link #getContentHash()}
+	*/
+	private static final long HASH_PRIME_1 = 0x9e3779b97f4a7c15L;
+	/**
+	*	Second multiplier of {@link #getContentHash()}
+	*/
+	private static final long HASH_PRIME_2 = 0xc2b2ae3d27d4eb4fL;
+	/**
+	*	Tile type (as ordinal) of every byte value of a .txt file, {@link #NEWLINE} or {@link #INVALID}
+	*/
+	private static final byte[] CHAR_TYPES = new byte[256];
+	static{
+		Arrays.fill(CHAR_TYPES, INVALID);
+		CHAR_TYPES['.'] = (byte)Tile.Type.CORRIDOR.ordinal();
+		CHAR_TYPES['e'] = (byte)Tile.Type.ENTRANCE.ordinal();
+		CHAR_TYPES['x'] = (byte)Tile.Type.EXIT.ordinal();
+		CHAR_TYPES['#'] = (byte)Tile.Type.WALL.ordinal();
+		CHAR_TYPES['\n'] = NEWLINE;
+		CHAR_TYPES['\r'] = NEWLINE;
+	}
+	/**
+	*	Index of the entrance cell in {@link #cells}
+	*/
+	private final int entrance;
+	/**
+	*	Index of the exit cell in {@link #cells}
+	*/
+	private final int exit;
+	/**
+	*	Number of columns
+	*/
+	private final int width;
+	/**
+	*	Number of rows
+	*/
+	private final int height;
+	/**
+	*	Packed grid of Tile types (as ordinals), indexed by y * width + x
+	*/
+	private final byte[] cells;
+	/**
+	*	Connected components of the grid, built by the first call to {@link #getConnectivity()}
+	*/
+	private transient volatile Connectivity connectivity;
+	/**
+	*	Hash of the grid, computed by the first call to {@link #getContentHash()}, 0 until then
+	*/
+	private transient volatile long contentHash;
+	/**
+	*	Number of tiles changed since the maze was loaded
+	*/
+	private volatile int modCount;
 
 	/** Class for coordinates of {@link Tile} objects in a {@link Maze}.
 	*	<p>Starting from 0:</p>
@@ -104,66 +182,194 @@ public class Maze implements Serializable{
 	}
 
 	/**
-	*	Constructs empty Maze.
+	*	Constructs Maze from a packed grid.
+	*	@param widthIn number of columns
+	*	@param heightIn number of rows
+	*	@param cellsIn packed grid of Tile types, indexed by y * width + x
+	*	@param entranceIn index of the entrance cell
+	*	@param exitIn index of the exit cell
 	*/
-	private Maze(){
-		tiles = new ArrayList<List<Tile>>();
+	private Maze(int widthIn, int heightIn, byte[] cellsIn, int entranceIn, int exitIn){
+		width = widthIn;
+		height = heightIn;
+		cells = cellsIn;
+		entrance = entranceIn;
+		exit = exitIn;
 	}
 
 	/**
 	*	Create Maze object from .txt file.
+	*	<p>The file is read in a single pass, in large chunks. Cells are stored in file order as they are read and the rows are flipped at the end, so that y goes bottom to top.</p>
 	*	@param path Path to .txt file
 	*	@return Returns Maze object from .txt file.
 	*	@throws maze.InvalidMazeException File at path cannot represent a valid maze.
 	*/
 	public static Maze fromTxt(String path) throws InvalidMazeException{
-		Maze maze = new Maze();
+		byte[] cells;
+		int width = -1;
+		int rows = 0;
+		int entrance = -1;
+		int exit = -1;
 
 		try (
-            BufferedReader bufferedReader = new BufferedReader(
-                new FileReader(path)
-            )
+            FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)
         ) {
-            String line = bufferedReader.readLine();
-            int len = line.length();
-            while (line != null) {
-            	ArrayList<Tile> row = new ArrayList<Tile>();
-            	// Add new rows to start of list
-            	maze.tiles.add(0, row);
-
-            	// Ragged maze
-                int line_len = line.length();
-                if(line_len != len)
-                	throw new RaggedMazeException();
-
-                for(int i=0; i<line_len; i++){
-                	// Add tile to row
-                	Tile tile = Tile.fromChar(line.charAt(i));
-                	row.add(tile);
-
-                	if(tile.getType() == Tile.Type.ENTRANCE)
-                		maze.setEntrance(tile);
-                	else if(tile.getType() == Tile.Type.EXIT)
-                		maze.setExit(tile);
-                }
-                // Get next line
-                line = bufferedReader.readLine();
-            }
-        } catch (FileNotFoundException e) {
-             throw new InvalidMazeException();
-        } catch (IOException e) {;
+			long size = channel.size();
+			if(size > MAX_CELLS)
+				throw new InvalidMazeException("Maze file too large");
+
+			// Grid is sized exactly once the first row is read
+			cells = new byte[(int)Math.min(size, CHUNK_SIZE)];
+			ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+			byte[] chunk = buffer.array();
+			int count = 0;
+			int col = 0;
+			boolean afterCR = false;
+			boolean inRow = false;
+
+			while(channel.read(buffer) != -1){
+				int len = buffer.position();
+				int i = 0;
+				while(i < len){
+					// Run of cells up to the next line terminator, invalid char or end of chunk
+					int end = (int)Math.min(len, (long)i + cells.length - count);
+					int start = i;
+					while(i < end){
+						byte type = CHAR_TYPES[chunk[i] & 0xff];
+						if(type < 0)
+							break;
+						cells[count] = type;
+						if(type == ENTRANCE){
+							// Check no entrance yet
+							if(entrance != -1)
+								throw new MultipleEntranceException();
+							entrance = count;
+						}else if(type == EXIT){
+							// Check no exit yet
+							if(exit != -1)
+								throw new MultipleExitException();
+							exit = count;
+						}
+						count++;
+						i++;
+					}
+					if(i > start){
+						col += i - start;
+						afterCR = false;
+						inRow = true;
+						// Ragged maze
+						if(width != -1 && col > width)
+							throw new RaggedMazeException();
+					}
+					if(i == len)
+						break;
+
+					// Grid full
+					if(i == end){
+						cells = Arrays.copyOf(cells, (int)Math.min(MAX_CELLS, 2L * count + 1));
+						continue;
+					}
+
+					byte b = chunk[i];
+					if(CHAR_TYPES[b & 0xff] == INVALID)
+						throw new InvalidMazeException();
+					i++;
+
+					// Line terminators: \n, \r or \r\n
+					if(b == '\n' && afterCR){
+						afterCR = false;
+						continue;
+					}
+					afterCR = (b == '\r');
+
+					// First row sets the width
+					if(width == -1){
+						width = col;
+						// Size the grid exactly, assuming every row ends like the first one
+						int newline = (b == '\r' && i < len && chunk[i] == '\n') ? 2 : 1;
+						long expected = (size + newline) / (width + newline) * width;
+						if(expected >= count && expected != cells.length)
+							cells = Arrays.copyOf(cells, (int)expected);
+					}else if(col != width){
+						// Ragged maze
+						throw new RaggedMazeException();
+					}
+					rows++;
+					col = 0;
+					inRow = false;
+				}
+				buffer.clear();
+			}
+
+			// Last row without line terminator
+			if(inRow){
+				if(width == -1)
+					width = col;
+				else if(col != width)
+					throw new RaggedMazeException();
+				rows++;
+			}
+			if(count != cells.length)
+				cells = Arrays.copyOf(cells, count);
+
+			width = Math.max(width, 0);
+			flipRows(cells, width, rows);
+        } catch (InvalidPathException | IOException e) {
              throw new InvalidMazeException();
         }
 
         // No entrance
-        if(maze.entrance == null)
+        if(entrance == -1)
         	throw new NoEntranceException();
 
         // No exit
-        if(maze.exit == null)
+        if(exit == -1)
         	throw new NoExitException();
 
-        return maze;
+        return new Maze(width, rows, cells, flipIndex(entrance, width, rows), flipIndex(exit, width, rows));
+	}
+
+	/**
+	*	Create Maze object from a packed grid of {@link Tile} types.
+	*	<p>The grid is copied, so later changes to it do not affect the maze and {@link #setTileType(Coordinate, Tile.Type)} does not write into it.</p>
+	*	@param width number of columns
+	*	@param height number of rows
+	*	@param grid Tile type ordinals ({@link Tile.Type#ordinal()}), indexed by y * width + x with y going bottom to top
+	*	@return Returns Maze object from the grid.
+	*	@throws maze.InvalidMazeException Grid cannot represent a valid maze.
+	*/
+	public static Maze fromGrid(int width, int height, byte[] grid) throws InvalidMazeException{
+		if(width < 0 || height < 0 || (long)width * height != grid.length)
+			throw new RaggedMazeException();
+
+		int entrance = -1;
+		int exit = -1;
+		for(int i=0; i<grid.length; i++){
+			byte type = grid[i];
+			if(type < 0 || type >= TYPES.length)
+				throw new InvalidMazeException();
+			if(type == ENTRANCE){
+				// Check no entrance yet
+				if(entrance != -1)
+					throw new MultipleEntranceException();
+				entrance = i;
+			}else if(type == EXIT){
+				// Check no exit yet
+				if(exit != -1)
+					throw new MultipleExitException();
+				exit = i;
+			}
+		}
+
+		// No entrance
+		if(entrance == -1)
+			throw new NoEntranceException();
+
+		// No exit
+		if(exit == -1)
+			throw new NoExitException();
+
+		return new Maze(width, height, grid.clone(), entrance, exit);
 	}
 
 	/**
@@ -173,30 +379,49 @@ public class Maze implements Serializable{
 	*	@return Returns specific Tile object or null if it doesn't exist.
 	*/
 	public Tile getAdjacentTile(Tile tile, Direction dir){
-		// Get coordinates of input tile
-		Coordinate coordIn = getTileLocation(tile);
-		if(coordIn == null)
+		// Tile not in maze
+		if(tile == null || tile.getMaze() != this)
 			return null;
-		int x = coordIn.getX();
-		int y = coordIn.getY();
 
-		// Update coordinates based on direction
+		int index = getAdjacentIndex(tile.getIndex(), dir);
+		if(index == -1)
+			return null;
+		return getTile(index);
+	}
+
+	/**
+	*	Returns index of the adjacent cell in a given direction.
+	*	@param index index of the starting cell (y * width + x)
+	*	@param dir Direction to move in
+	*	@return Returns index of the adjacent cell or -1 if it doesn't exist.
+	*/
+	public int getAdjacentIndex(int index, Direction dir){
+		int x = index % width;
+
+		// Update index based on direction
 		switch(dir){
 			case NORTH:
-				y += 1;
+				index += width;
 				break;
 			case SOUTH:
-				y -= 1;
+				index -= width;
 				break;
 			case EAST:
-				x += 1;
+				if(x == width - 1)
+					return -1;
+				index += 1;
 				break;
 			case WEST:
-				x -= 1;
+				if(x == 0)
+					return -1;
+				index -= 1;
 				break;
 		}
 
-		return getTileAtLocation(new Coordinate(x, y));
+		// Above top row or below bottom row
+		if(index < 0 || index >= cells.length)
+			return -1;
+		return index;
 	}
 
 	/**
@@ -204,7 +429,7 @@ public class Maze implements Serializable{
 	*	@return Returns entrance Tile.
 	*/
 	public Tile getEntrance(){
-		return entrance;
+		return getTile(entrance);
 	}
 
 	/**
@@ -212,7 +437,7 @@ public class Maze implements Serializable{
 	*	@return Returns exit Tile.
 	*/
 	public Tile getExit(){
-		return exit;
+		return getTile(exit);
 	}
 
 	/**
@@ -223,11 +448,9 @@ public class Maze implements Serializable{
 	public Tile getTileAtLocation(Coordinate coord){
 		int x = coord.getX();
 		int y = coord.getY();
-		try{
-			return tiles.get(y).get(x);
-		}catch(IndexOutOfBoundsException e){
+		if(x < 0 || x >= width || y < 0 || y >= height)
 			return null;
-		}
+		return getTile(y * width + x);
 	}
 
 	/**
@@ -236,84 +459,213 @@ public class Maze implements Serializable{
 	*	@return Returns Coordinate of Tile object or null if it is not in the maze.
 	*/
 	public Coordinate getTileLocation(Tile tile){
-		int x = -1;
-		int y = -1;
-
-		// Search row by row
-		for(int i=0; i<tiles.size(); i++){
-			List<Tile> row = tiles.get(i);
-			x = row.indexOf(tile);
-			// Default indexOf() == -1
-			if(x != -1){
-				y = i;
-				break;
-			}
-		}
-
 		// Tile not found
-		if(x == -1)
+		if(tile == null || tile.getMaze() != this)
 			return null;
 
 		// Tile found
-		return new Coordinate(x, y);
+		int index = tile.getIndex();
+		return new Coordinate(index % width, index / width);
 	}
 
 	/**
 	*	Returns 2D List of {@link Tile} objects that make up Maze.
+	*	<p>The returned list is a read-only view of the packed grid: Tile objects are created as they are accessed.</p>
 	*	@return Returns 2D List of Tile objects that make up Maze.
 	*/
 	public List<List<Tile>> getTiles(){
-		return tiles;
+		return new Rows();
+	}
+
+	/**
+	*	Returns {@link Tile} view of the cell at a given index of the packed grid.
+	*	@param index index of the cell (y * width + x)
+	*	@return Returns Tile view of the cell.
+	*/
+	public Tile getTile(int index){
+		return new Tile(this, index, TYPES[cells[index]]);
 	}
 
 	/**
-	*	Returns if {@link Tile} object is in Maze.
+	*	Returns index of a given {@link Tile} in the packed grid.
 	*	@param tile Tile object
-	*	@return Returns if Tile object is in maze.
-	*/
-	private boolean inMaze(Tile tile){
-		// Search row by row
-		for(int i=0; i<tiles.size(); i++){
-			List<Tile> row = tiles.get(i);
-			if(row.contains(tile)){
-				return true;
+	*	@return Returns index of Tile object (y * width + x) or -1 if it is not in the maze.
+	*/
+	public int getTileIndex(Tile tile){
+		if(tile == null || tile.getMaze() != this)
+			return -1;
+		return tile.getIndex();
+	}
+
+	/**
+	*	Returns {@link Tile} type of the cell at a given index.
+	*	@param index index of the cell (y * width + x)
+	*	@return Returns Tile type of the cell.
+	*/
+	public Tile.Type getType(int index){
+		return TYPES[cells[index]];
+	}
+
+	/**
+	*	Returns if the cell at a given index is navigable.
+	*	@param index index of the cell (y * width + x)
+	*	@return Returns if the cell is navigable.
+	*/
+	public boolean isNavigable(int index){
+		return cells[index] != WALL;
+	}
+
+	/**
+	*	Returns number of columns.
+	*	@return Returns number of columns.
+	*/
+	public int getWidth(){
+		return width;
+	}
+
+	/**
+	*	Returns number of rows.
+	*	@return Returns number of rows.
+	*/
+	public int getHeight(){
+		return height;
+	}
+
+	/**
+	*	Changes a corridor into a wall or a wall into a corridor.
+	*	<p>The connectivity index and content hash are dropped and rebuilt when next asked for, and {@link #getModCount()} goes up so other caches can tell the maze has changed. {@link Tile} objects of the cell taken before the change keep their old type.</p>
+	*	<p>Not safe while the maze is being solved: searches running over the maze must be started again. Waits for the connectivity index or content hash to finish building if another thread is building them.</p>
+	*	@param coord Coordinate of the tile
+	*	@param type new type of the tile, {@link Tile.Type#WALL} or {@link Tile.Type#CORRIDOR}
+	*	@return Returns if the type of the tile changed.
+	*	@throws IllegalArgumentException if the coordinate is outside the maze, the tile is the entrance or exit, or the type is neither a wall nor a corridor
+	*/
+	public synchronized boolean setTileType(Coordinate coord, Tile.Type type){
+		int x = coord.getX();
+		int y = coord.getY();
+		if(x < 0 || x >= width || y < 0 || y >= height)
+			throw new IllegalArgumentException("Coordinate " + coord + " is outside the maze");
+		if(type != Tile.Type.WALL && type != Tile.Type.CORRIDOR)
+			throw new IllegalArgumentException("Only walls and corridors can be set");
+		int index = y * width + x;
+		if(index == entrance || index == exit)
+			throw new IllegalArgumentException("Entrance and exit cannot be changed");
+
+		byte value = (byte)type.ordinal();
+		if(cells[index] == value)
+			return false;
+		cells[index] = value;
+		connectivity = null;
+		contentHash = 0;
+		modCount++;
+		return true;
+	}
+
+	/**
+	*	Returns number of tiles changed with {@link #setTileType(Coordinate, Tile.Type)} since the maze was loaded.
+	*	@return Returns number of changes to the maze.
+	*/
+	public int getModCount(){
+		return modCount;
+	}
+
+	/**
+	*	Returns the connected components of the navigable cells, building them the first time they are asked for.
+	*	<p>The index is built while holding the lock of the maze, so an edit can neither change the grid during the build nor be overwritten by an index built before it.</p>
+	*	@return Returns Connectivity index of the maze.
+	*/
+	public Connectivity getConnectivity(){
+		Connectivity index = connectivity;
+		if(index == null){
+			synchronized(this){
+				index = connectivity;
+				if(index == null){
+					index = new Connectivity(width, cells);
+					connectivity = index;
+				}
 			}
 		}
-		return false;
+		return index;
 	}
 
 	/**
-	*	Set entrance {@link Tile}.
-	*	@param tile Tile object
-	*	@throws maze.InvalidMazeException Tile is not in Maze or Maze already has an entrance.
+	*	Returns if there is any route from the entrance to the exit, without searching for it.
+	*	@return Returns if the entrance and exit are in the same connected component.
 	*/
-	private void setEntrance(Tile tile) throws InvalidMazeException{
-		// Check tile in maze
-		if(!inMaze(tile))
-			throw new IllegalArgumentException();
+	public boolean isSolvable(){
+		return getConnectivity().isConnected(entrance, exit);
+	}
 
-		// Check no entrance yet
-		if(entrance != null)
-			throw new MultipleEntranceException();
+	/**
+	*	Returns a 64-bit hash of the size and Tile types of the maze, so mazes with the same content have the same hash wherever they were loaded from.
+	*	<p>The grid is hashed 8 cells at a time, so hashing is much faster than loading or solving the maze. The hash is computed once, holding the lock of the maze like {@link #getConnectivity()}, and kept until the maze is edited.</p>
+	*	@return Returns hash of the content of the maze.
+	*/
+	public long getContentHash(){
+		long hash = contentHash;
+		if(hash == 0){
+			synchronized(this){
+				hash = contentHash;
+				if(hash == 0)
+					contentHash = hash = hashCells();
+			}
+		}
+		return hash;
+	}
 
-		entrance = tile;
+	/**
+	*	Computes hash of the size and Tile types of the maze.
+	*	@return Returns hash of the content of the maze.
+	*/
+	private long hashCells(){
+		ByteBuffer buffer = ByteBuffer.wrap(cells).order(ByteOrder.LITTLE_ENDIAN);
+		long hash = ((long)width << 32 | height) * HASH_PRIME_1;
+		int i = 0;
+		for(; i + 8 <= cells.length; i += 8)
+			hash = Long.rotateLeft(hash ^ buffer.getLong(i) * HASH_PRIME_1, 31) * HASH_PRIME_2;
+		for(; i < cells.length; i++)
+			hash = Long.rotateLeft(hash ^ cells[i] * HASH_PRIME_1, 31) * HASH_PRIME_2;
+		// Spread every input bit over the whole hash
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
 	}
 
 	/**
-	*	Set exit {@link Tile}.
-	*	@param tile Tile object
-	*	@throws maze.InvalidMazeException Tile is not in Maze or Maze already has an exit.
+	*	Returns copy of the packed grid of {@link Tile} types, in the layout read by {@link #fromGrid(int, int, byte[])}.
+	*	@return Returns Tile type ordinals, indexed by y * width + x with y going bottom to top.
 	*/
-	private void setExit(Tile tile) throws InvalidMazeException{
-		// Check tile in maze
-		if(!inMaze(tile))
-			throw new IllegalArgumentException();
+	public byte[] toGrid(){
+		return cells.clone();
+	}
 
-		// Check no exit yet
-		if(exit != null)
-			throw new MultipleExitException();
+	/**
+	*	Flip order of the rows of a packed grid, in place.
+	*	@param cells packed grid
+	*	@param width number of columns
+	*	@param height number of rows
+	*/
+	private static void flipRows(byte[] cells, int width, int height){
+		byte[] temp = new byte[width];
+		for(int top = 0, bottom = height - 1; top < bottom; top++, bottom--){
+			System.arraycopy(cells, top * width, temp, 0, width);
+			System.arraycopy(cells, bottom * width, cells, top * width, width);
+			System.arraycopy(temp, 0, cells, bottom * width, width);
+		}
+	}
 
-		exit = tile;
+	/**
+	*	Returns index in the flipped grid of a cell indexed in file order (top row first).
+	*	@param index index of the cell in file order
+	*	@param width number of columns
+	*	@param height number of rows
+	*	@return Returns index of the cell with rows going bottom to top.
+	*/
+	private static int flipIndex(int index, int width, int height){
+		return (height - index / width - 1) * width + index % width;
 	}
 
 	/**
@@ -321,26 +673,86 @@ public class Maze implements Serializable{
 	*	@return Returns string representation of Maze.
 	*/
 	public String toString(){
-		String output = "";
-		int nr_rows = tiles.size();
+		StringBuilder output = new StringBuilder();
 
 		// Print reverse order of rows
-		for(int i = nr_rows - 1; i>=0; i--){
+		for(int i = height - 1; i>=0; i--){
 			// Print row number
-			output+= i +"  ";
-			List<Tile> row = tiles.get(i);
-			int nr_col = row.size();
+			output.append(i).append("  ");
 			// Print row
-			for(int j = 0; j < nr_col; j++)
-				output+=row.get(j).toString() + " ";
-			output+='\n';
+			for(int j = 0; j < width; j++)
+				output.append(getTile(i * width + j).toString()).append(' ');
+			output.append('\n');
 			// Print col numbers
 			if(i == 0){
-				output+="\n   ";
-				for(int j = 0; j < nr_col; j++)
-					output += j + " "; 
+				output.append("\n   ");
+				for(int j = 0; j < width; j++)
+					output.append(j).append(' ');
 			}
 		}
-		return output;
+		return output.toString();
+	}
+
+	/** Read-only view of the rows of the packed grid, bottom to top.
+	* @author Andrei Hutu
+	* @version 18th October 2026
+	*/
+	private class Rows extends AbstractList<List<Tile>> implements RandomAccess{
+		/**
+		*	Returns view of row y.
+		*	@param y row number
+		*	@return Returns view of row y.
+		*/
+		public List<Tile> get(int y){
+			if(y < 0 || y >= height)
+				throw new IndexOutOfBoundsException();
+			return new Row(y);
+		}
+
+		/**
+		*	Returns number of rows.
+		*	@return Returns number of rows.
+		*/
+		public int size(){
+			return height;
+		}
+	}
+
+	/** Read-only view of a single row of the packed grid, left to right.
+	* @author Andrei Hutu
+	* @version 18th October 2026
+	*/
+	private class Row extends AbstractList<Tile> implements RandomAccess{
+		/**
+		*	Row number
+		*/
+		private int y;
+
+		/**
+		*	Constructs view of row y.
+		*	@param yIn row number
+		*/
+		private Row(int yIn){
+			y = yIn;
+		}
+
+		/**
+		*	Returns Tile in column x.
+		*	@param x column number
+		*	@return Returns Tile in column x.
+		*/
+		public Tile get(int x){
+			if(x < 0 || x >= width)
+				throw new IndexOutOfBoundsException();
+			return getTile(y * width + x);
+		}
+
+		/**
+		*	Returns number of columns.
+		*	@return Returns number of columns.
+		*/
+		public int size(){
+			return width;
+		}
 	}
 }
\ No newline at end of file
@@ -9,13 +9,17 @@ import java.io.Serializable;
 */
 public class Tile implements Serializable{
 	/**
-	*	Type of Tile
+	*	Maze which the Tile is a view of
+	*/
+	private final Maze maze;
+	/**
+	*	Index of the Tile in the packed grid of its Maze (y * width + x)
 	*/
-	private Type type;
+	private final int index;
 	/**
-	*	Has the Tile been visited or not
+	*	Type of Tile
 	*/
-	private boolean visited;
+	private final Type type;
 
 	/** 
 	*	All Tile types
@@ -40,62 +44,39 @@ public class Tile implements Serializable{
 	}
 
 	/**
-	*	Constructs a new Tile of specified type.
+	*	Constructs a new Tile view of a cell in the packed grid of a {@link Maze}.
+	*	@param mazeIn Maze the tile belongs to
+	*	@param indexIn index of the cell in the packed grid
 	*	@param typeIn type of tile
 	*/
-	private Tile(Type typeIn){
+	Tile(Maze mazeIn, int indexIn, Type typeIn){
+		maze = mazeIn;
+		index = indexIn;
 		type = typeIn;
-		visited = false;
 	}
 
 	/**
-	*	Create Tile object from char representation.
-	*	@param charIn char representation of a tile
-	*	<ul>
-	*		<li>'.' - CORRIDOR</li>
-	*		<li>'e' - ENTRANCE</li>
-	*		<li>'x' - EXIT</li>
-	*		<li>'#' - WALL</li>
-	*	</ul>
-	*	@return Returns Tile object from char representation.
-	*	@throws maze.InvalidMazeException Char not among accepted values
+	*	Returns {@link Maze} the Tile belongs to.
+	*	@return Returns Maze the tile belongs to.
 	*/
-	protected static Tile fromChar(char charIn) throws InvalidMazeException{
-		switch(charIn){
-			case '.':
-				return new Tile(Type.CORRIDOR);
-			case 'e':
-				return new Tile(Type.ENTRANCE);
-			case 'x':
-				return new Tile(Type.EXIT);
-			case '#':
-				return new Tile(Type.WALL);
-		}
-		throw new InvalidMazeException();
-	}
-
-	/**
-	*	Returns Tile type.
-	*	@return Returns tile type.
-	*/
-	public Type getType(){
-		return type;
+	Maze getMaze(){
+		return maze;
 	}
 
 	/**
-	*	Returns visited status.
-	*	@return Returns visited status.
+	*	Returns index of the Tile in the packed grid of its {@link Maze}.
+	*	@return Returns index of the tile in the packed grid.
 	*/
-	public boolean getVisited(){
-		return visited;
+	int getIndex(){
+		return index;
 	}
 
 	/**
-	*	Set visited status.
-	*	@param visitedIn visited status
+	*	Returns Tile type.
+	*	@return Returns tile type.
 	*/
-	public void setVisited(boolean visitedIn){
-		visited = visitedIn;
+	public Type getType(){
+		return type;
 	}
 
 	/**
@@ -124,4 +105,24 @@ public class Tile implements Serializable{
 		return "";
 	}
 
+	/**
+	*	Returns if object is a Tile for the same cell of the same {@link Maze}.
+	*	@param obj object to compare with
+	*	@return Returns if object is a Tile for the same cell of the same Maze.
+	*/
+	public boolean equals(Object obj){
+		if(!(obj instanceof Tile))
+			return false;
+		Tile other = (Tile)obj;
+		return (maze == other.maze && index == other.index);
+	}
+
+	/**
+	*	Returns hash code of Tile.
+	*	@return Returns hash code of Tile.
+	*/
+	public int hashCode(){
+		return index;
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,194 @@
+package maze.batch;
+
+import java.util.List;
+import maze.*;
+
+/** Class for the outcome of solving one maze file in a batch.
+* <p>The route is stored as a string of moves, one of N, E, S or W per move from the entrance, which is short enough to write for very large mazes.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+* @see BatchSolver
+*/
+public class BatchResult{
+	/**
+	*	Path of the maze file
+	*/
+	private String path;
+	/**
+	*	Outcome of solving the maze
+	*/
+	private Status status;
+	/**
+	*	Width of the maze, 0 if it could not be loaded
+	*/
+	private int width;
+	/**
+	*	Height of the maze, 0 if it could not be loaded
+	*/
+	private int height;
+	/**
+	*	Moves from entrance to exit, empty if no route was found
+	*/
+	private String moves;
+	/**
+	*	Time taken to load the maze in nanoseconds
+	*/
+	private long loadNanos;
+	/**
+	*	Time taken to solve the maze in nanoseconds
+	*/
+	private long solveNanos;
+	/**
+	*	Reason the maze could not be loaded, null if it was loaded
+	*/
+	private String error;
+
+	/**
+	*	All outcomes of solving a maze file
+	*/
+	public enum Status{
+		/**
+		*	Route from entrance to exit found
+		*/
+		FOUND,
+		/**
+		*	Maze does not have a possible solution
+		*/
+		NO_ROUTE,
+		/**
+		*	File cannot represent a valid maze
+		*/
+		INVALID;
+	}
+
+	/**
+	*	Constructs new BatchResult.
+	*	@param pathIn path of the maze file
+	*	@param statusIn outcome of solving the maze
+	*	@param widthIn width of the maze
+	*	@param heightIn height of the maze
+	*	@param movesIn moves from entrance to exit
+	*	@param loadNanosIn time taken to load the maze in nanoseconds
+	*	@param solveNanosIn time taken to solve the maze in nanoseconds
+	*	@param errorIn reason the maze could not be loaded, or null
+	*/
+	public BatchResult(String pathIn, Status statusIn, int widthIn, int heightIn, String movesIn, long loadNanosIn, long solveNanosIn, String errorIn){
+		path = pathIn;
+		status = statusIn;
+		width = widthIn;
+		height = heightIn;
+		moves = movesIn;
+		loadNanos = loadNanosIn;
+		solveNanos = solveNanosIn;
+		error = errorIn;
+	}
+
+	/**
+	*	Returns path of the maze file.
+	*	@return Returns path of the maze file.
+	*/
+	public String getPath(){
+		return path;
+	}
+
+	/**
+	*	Returns outcome of solving the maze.
+	*	@return Returns outcome of solving the maze.
+	*/
+	public Status getStatus(){
+		return status;
+	}
+
+	/**
+	*	Returns width of the maze.
+	*	@return Returns width of the maze, 0 if it could not be loaded.
+	*/
+	public int getWidth(){
+		return width;
+	}
+
+	/**
+	*	Returns height of the maze.
+	*	@return Returns height of the maze, 0 if it could not be loaded.
+	*/
+	public int getHeight(){
+		return height;
+	}
+
+	/**
+	*	Returns moves from entrance to exit, one of N, E, S or W per move.
+	*	@return Returns moves from entrance to exit, empty if no route was found.
+	*/
+	public String getMoves(){
+		return moves;
+	}
+
+	/**
+	*	Returns number of tiles in the route, including entrance and exit.
+	*	@return Returns number of tiles in the route, 0 if no route was found.
+	*/
+	public int getRouteLength(){
+		return status == Status.FOUND ? moves.length() + 1 : 0;
+	}
+
+	/**
+	*	Returns time taken to load the maze.
+	*	@return Returns time taken to load the maze in nanoseconds.
+	*/
+	public long getLoadNanos(){
+		return loadNanos;
+	}
+
+	/**
+	*	Returns time taken to solve the maze.
+	*	@return Returns time taken to solve the maze in nanoseconds.
+	*/
+	public long getSolveNanos(){
+		return solveNanos;
+	}
+
+	/**
+	*	Returns reason the maze could not be loaded.
+	*	@return Returns reason the maze could not be loaded, null if it was loaded.
+	*/
+	public String getError(){
+		return error;
+	}
+
+	/**
+	*	Returns moves along a route, one of N, E, S or W per move.
+	*	@param maze Maze the route is in
+	*	@param route route of adjacent Tile objects
+	*	@return Returns moves along the route.
+	*/
+	static String toMoves(Maze maze, List<Tile> route){
+		int width = maze.getWidth();
+		StringBuilder sb = new StringBuilder(Math.max(route.size() - 1, 0));
+		int prev = -1;
+		for(Tile tile : route){
+			int cell = maze.getTileIndex(tile);
+			if(prev != -1){
+				int diff = cell - prev;
+				// Vertical first, a width of 1 leaves no horizontal moves
+				if(diff == width)
+					sb.append('N');
+				else if(diff == -width)
+					sb.append('S');
+				else if(diff == 1)
+					sb.append('E');
+				else
+					sb.append('W');
+			}
+			prev = cell;
+		}
+		return sb.toString();
+	}
+
+	/**
+	*	Returns string representation of BatchResult.
+	*	@return Returns string representation of BatchResult.
+	*/
+	public String toString(){
+		return (path + ": " + status);
+	}
+}
@@ -0,0 +1,330 @@
+package maze.batch;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+import maze.*;
+import maze.routing.*;
+
+/** Headless command-line entry point which solves many maze files in parallel, without JavaFX.
+* <p>Usage: {@code java -cp bin maze.batch.BatchSolver [-t threads] [-s strategy] [-p] [-c cache] [-f csv|json] [-o output] path...}</p>
+* <p>Every path is a .txt maze file or a directory searched for .txt maze files. The mazes are loaded and solved on a fixed thread pool, one maze per task, and the results are written in input order to the output file or standard output. The throughput in mazes per second is reported on standard error.</p>
+* <p>Routes are cached by maze content, so a maze file submitted again is answered without solving it. With {@code -c}, the cache is also kept in the given directory for later runs.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+* @see BatchResult
+*/
+public class BatchSolver{
+	/**
+	*	Largest number of bytes of routes cached in memory by {@link #main(String[])}
+	*/
+	private static final long CACHE_BYTES = 64L << 20;
+
+	/**
+	*	Number of threads solving mazes
+	*/
+	private int threads;
+	/**
+	*	Strategy used to solve every maze
+	*/
+	private Solver.Strategy strategy;
+	/**
+	*	Are dead ends filled before solving?
+	*/
+	private boolean prune;
+	/**
+	*	Cache of solved routes, null if routes are not cached
+	*/
+	private RouteCache cache;
+
+	/**
+	*	Constructs new BatchSolver.
+	*	@param threadsIn number of threads solving mazes
+	*	@param strategyIn strategy used to solve every maze
+	*/
+	public BatchSolver(int threadsIn, Solver.Strategy strategyIn){
+		threads = threadsIn;
+		strategy = strategyIn;
+		// JMX and JFR set up now rather than timed with the first maze
+		SolveMonitor.initialize();
+	}
+
+	/**
+	*	Sets whether dead ends are filled with {@link maze.routing.DeadEndFiller} before solving.
+	*	@param pruneIn should dead ends be filled
+	*/
+	public void setPrune(boolean pruneIn){
+		prune = pruneIn;
+	}
+
+	/**
+	*	Sets the cache solved routes are looked up in and added to.
+	*	@param cacheIn cache of solved routes, or null to solve every maze
+	*/
+	public void setCache(RouteCache cacheIn){
+		cache = cacheIn;
+	}
+
+	/**
+	*	Parses the command line, solves the mazes and writes the results.
+	*	<p>Exits with status 2 on bad arguments, 1 if any maze file was invalid and 0 otherwise.</p>
+	*	@param args command line arguments
+	*/
+	public static void main(String[] args){
+		int threads = Runtime.getRuntime().availableProcessors();
+		Solver.Strategy strategy = Solver.Strategy.BREADTH_FIRST;
+		boolean prune = false;
+		String cache = null;
+		String format = "csv";
+		String output = null;
+		List<String> inputs = new ArrayList<String>();
+
+		try{
+			for(int i = 0; i < args.length; i++){
+				switch(args[i]){
+					case "-t":
+						threads = Integer.parseInt(args[++i]);
+						if(threads < 1)
+							throw new IllegalArgumentException("Thread count must be positive");
+						break;
+					case "-s":
+						strategy = Solver.Strategy.valueOf(args[++i].toUpperCase());
+						break;
+					case "-p":
+						prune = true;
+						break;
+					case "-c":
+						cache = args[++i];
+						break;
+					case "-f":
+						format = args[++i].toLowerCase();
+						if(!format.equals("csv") && !format.equals("json"))
+							throw new IllegalArgumentException("Unknown format " + format);
+						break;
+					case "-o":
+						output = args[++i];
+						break;
+					default:
+						inputs.add(args[i]);
+				}
+			}
+			if(inputs.isEmpty())
+				throw new IllegalArgumentException("No maze files given");
+		}catch(ArrayIndexOutOfBoundsException err){
+			usage("Missing option value");
+		}catch(IllegalArgumentException err){
+			usage(err.getMessage());
+		}
+
+		try{
+			List<Path> files = findMazes(inputs);
+			BatchSolver solver = new BatchSolver(threads, strategy);
+			solver.setPrune(prune);
+			RouteCache routes = new RouteCache(CACHE_BYTES, cache == null ? null : Paths.get(cache));
+			solver.setCache(routes);
+			Writer out = output == null ? new OutputStreamWriter(System.out, StandardCharsets.UTF_8) : Files.newBufferedWriter(Paths.get(output), StandardCharsets.UTF_8);
+			int invalid = 0;
+			long start = System.nanoTime();
+			try(BufferedWriter writer = new BufferedWriter(out)){
+				invalid = solver.run(files, writer, format.equals("json"));
+			}
+			double seconds = (System.nanoTime() - start) / 1e9;
+			System.err.printf("Solved %d mazes in %.3f s (%.1f mazes/s, %d threads, %s, %d cached)%n", files.size(), seconds, files.size() / seconds, threads, strategy, routes.getHits());
+			System.exit(invalid > 0 ? 1 : 0);
+		}catch(IOException err){
+			System.err.println("Problem when reading or writing files: " + err.getMessage());
+			System.exit(2);
+		}
+	}
+
+	/**
+	*	Prints an argument error and the usage, then exits with status 2.
+	*	@param error description of the argument error
+	*/
+	private static void usage(String error){
+		StringJoiner strategies = new StringJoiner("|");
+		for(Solver.Strategy strategy : Solver.Strategy.values())
+			strategies.add(strategy.toString().toLowerCase());
+		System.err.println(error);
+		System.err.println("Usage: java maze.batch.BatchSolver [-t threads] [-s " + strategies + "] [-p] [-c cache] [-f csv|json] [-o output] path...");
+		System.exit(2);
+	}
+
+	/**
+	*	Solves maze files on the thread pool and writes one result per file, in the order of the files.
+	*	@param files maze files to be solved
+	*	@param writer output for the results
+	*	@param json write results as a JSON array instead of CSV rows
+	*	@return Returns number of files which could not be loaded as a maze.
+	*	@throws java.io.IOException if an I/O error occurs while writing
+	*/
+	public int run(List<Path> files, Writer writer, boolean json) throws IOException{
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		int invalid = 0;
+		try{
+			List<Future<BatchResult>> futures = new ArrayList<Future<BatchResult>>(files.size());
+			for(Path file : files)
+				futures.add(pool.submit(() -> solve(file.toString())));
+
+			writer.write(json ? "[\n" : "file,status,width,height,route_length,load_ms,solve_ms,error,route\n");
+			for(int i = 0; i < futures.size(); i++){
+				BatchResult result = getResult(futures.get(i), files.get(i).toString());
+				// Result no longer needed once written
+				futures.set(i, null);
+				if(result.getStatus() == BatchResult.Status.INVALID)
+					invalid++;
+				if(json)
+					writeJson(writer, result, i == futures.size() - 1);
+				else
+					writeCsv(writer, result);
+			}
+			if(json)
+				writer.write("]\n");
+		}finally{
+			pool.shutdownNow();
+		}
+		return invalid;
+	}
+
+	/**
+	*	Loads and solves one maze file.
+	*	@param path path to .txt maze file
+	*	@return Returns outcome of solving the maze.
+	*/
+	public BatchResult solve(String path){
+		long start = System.nanoTime();
+		Maze maze;
+		try{
+			maze = Maze.fromTxt(path);
+		}catch(InvalidMazeException err){
+			String error = err.getMessage() == null ? err.getClass().getSimpleName() : err.getMessage();
+			return new BatchResult(path, BatchResult.Status.INVALID, 0, 0, "", System.nanoTime() - start, 0, error);
+		}
+		long loaded = System.nanoTime();
+
+		BatchResult.Status status = BatchResult.Status.FOUND;
+		String moves = "";
+		try{
+			Solver solver = prune ? new PrunedSolver(strategy.getSolver()) : strategy.getSolver();
+			if(cache != null)
+				solver = new CachedSolver(solver, prune ? strategy + "-PRUNED" : strategy.toString(), cache);
+			moves = BatchResult.toMoves(maze, solver.solve(maze));
+		}catch(NoRouteFoundException err){
+			status = BatchResult.Status.NO_ROUTE;
+		}
+		long solved = System.nanoTime();
+		return new BatchResult(path, status, maze.getWidth(), maze.getHeight(), moves, loaded - start, solved - loaded, null);
+	}
+
+	/**
+	*	Waits for the result of a submitted maze.
+	*	@param future pending result
+	*	@param path path to the maze file
+	*	@return Returns outcome of solving the maze, INVALID if solving it failed unexpectedly.
+	*	@throws java.io.InterruptedIOException if interrupted while waiting
+	*/
+	private static BatchResult getResult(Future<BatchResult> future, String path) throws InterruptedIOException{
+		try{
+			return future.get();
+		}catch(InterruptedException err){
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while solving " + path);
+		}catch(ExecutionException err){
+			return new BatchResult(path, BatchResult.Status.INVALID, 0, 0, "", 0, 0, String.valueOf(err.getCause()));
+		}
+	}
+
+	/**
+	*	Returns .txt maze files at the given paths, searching directories recursively.
+	*	<p>Files inside a directory are sorted by path, so the output order does not depend on the file system.</p>
+	*	@param inputs paths to maze files or directories
+	*	@return Returns paths to maze files.
+	*	@throws java.io.IOException if a path does not exist or a directory cannot be read
+	*/
+	public static List<Path> findMazes(List<String> inputs) throws IOException{
+		List<Path> files = new ArrayList<Path>();
+		for(String input : inputs){
+			Path path = Paths.get(input);
+			if(Files.isDirectory(path)){
+				try(Stream<Path> walk = Files.walk(path)){
+					files.addAll(walk.filter(p -> Files.isRegularFile(p) && p.toString().endsWith(".txt")).sorted().collect(Collectors.toList()));
+				}
+			}else if(Files.exists(path)){
+				files.add(path);
+			}else{
+				throw new FileNotFoundException(input);
+			}
+		}
+		return files;
+	}
+
+	/**
+	*	Writes one result as a CSV row.
+	*	@param writer output for the row
+	*	@param result result to be written
+	*	@throws java.io.IOException if an I/O error occurs while writing
+	*/
+	private static void writeCsv(Writer writer, BatchResult result) throws IOException{
+		writer.write(csvField(result.getPath()));
+		writer.write(',');
+		writer.write(result.getStatus().toString());
+		writer.write("," + result.getWidth() + "," + result.getHeight() + "," + result.getRouteLength() + ",");
+		writer.write(String.format(Locale.ROOT, "%.3f,%.3f,", result.getLoadNanos() / 1e6, result.getSolveNanos() / 1e6));
+		writer.write(result.getError() == null ? "" : csvField(result.getError()));
+		writer.write(',');
+		writer.write(result.getMoves());
+		writer.write('\n');
+	}
+
+	/**
+	*	Writes one result as a JSON object.
+	*	@param writer output for the object
+	*	@param result result to be written
+	*	@param last is this the last object of the array
+	*	@throws java.io.IOException if an I/O error occurs while writing
+	*/
+	private static void writeJson(Writer writer, BatchResult result, boolean last) throws IOException{
+		writer.write("  {\"file\": " + jsonString(result.getPath()));
+		writer.write(", \"status\": \"" + result.getStatus() + "\"");
+		writer.write(", \"width\": " + result.getWidth() + ", \"height\": " + result.getHeight() + ", \"route_length\": " + result.getRouteLength());
+		writer.write(String.format(Locale.ROOT, ", \"load_ms\": %.3f, \"solve_ms\": %.3f", result.getLoadNanos() / 1e6, result.getSolveNanos() / 1e6));
+		writer.write(", \"error\": " + (result.getError() == null ? "null" : jsonString(result.getError())));
+		writer.write(", \"route\": \"");
+		writer.write(result.getMoves());
+		writer.write(last ? "\"}\n" : "\"},\n");
+	}
+
+	/**
+	*	Returns a value quoted for CSV if it contains a separator, quote or line break.
+	*	@param value value to be written
+	*	@return Returns CSV field.
+	*/
+	private static String csvField(String value){
+		if(value.indexOf(',') == -1 && value.indexOf('"') == -1 && value.indexOf('\n') == -1 && value.indexOf('\r') == -1)
+			return value;
+		return "\"" + value.replace("\"", "\"\"") + "\"";
+	}
+
+	/**
+	*	Returns a value as a quoted JSON string.
+	*	@param value value to be written
+	*	@return Returns JSON string.
+	*/
+	private static String jsonString(String value){
+		StringBuilder sb = new StringBuilder(value.length() + 2);
+		sb.append('"');
+		for(int i = 0; i < value.length(); i++){
+			char c = value.charAt(i);
+			if(c == '"' || c == '\\')
+				sb.append('\\').append(c);
+			else if(c < 0x20)
+				sb.append(String.format("\\u%04x", (int)c));
+			else
+				sb.append(c);
+		}
+		return sb.append('"').toString();
+	}
+}
@@ -0,0 +1,181 @@
+package maze.benchmark;
+
+/** Class for one timed piece of work, measured with warmup and measurement iterations.
+* <p>Every iteration runs the work repeatedly until a minimum time has passed, and the score of an iteration is the mean time per operation. The warmup iterations give the JIT compiler time to compile the work before it is measured.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+* @see MazeBenchmarks
+*/
+public class Benchmark{
+	/**
+	*	Sink for results of the work, so the JIT compiler cannot remove it as dead code
+	*/
+	private static volatile long sink;
+
+	/**
+	*	Name of the benchmark
+	*/
+	private String name;
+	/**
+	*	Name of the maze the work runs on
+	*/
+	private String maze;
+	/**
+	*	Work to be measured
+	*/
+	private Work work;
+
+	/**
+	*	Interface for the work measured by a {@link Benchmark}
+	*/
+	public interface Work{
+		/**
+		*	Runs the work once.
+		*	@return Returns number of operations made, such as steps or neighbour lookups.
+		*	@throws Exception if the work fails
+		*/
+		public long run() throws Exception;
+	}
+
+	/**
+	*	Constructs new Benchmark.
+	*	@param nameIn name of the benchmark
+	*	@param mazeIn name of the maze the work runs on
+	*	@param workIn work to be measured
+	*/
+	public Benchmark(String nameIn, String mazeIn, Work workIn){
+		name = nameIn;
+		maze = mazeIn;
+		work = workIn;
+	}
+
+	/**
+	*	Returns name of the benchmark.
+	*	@return Returns name of the benchmark.
+	*/
+	public String getName(){
+		return name;
+	}
+
+	/**
+	*	Returns name of the maze the work runs on.
+	*	@return Returns name of the maze.
+	*/
+	public String getMaze(){
+		return maze;
+	}
+
+	/**
+	*	Measures the work.
+	*	@param warmups number of warmup iterations, not included in the score
+	*	@param iterations number of measurement iterations
+	*	@param iterationNanos minimum time of one iteration in nanoseconds, the work runs at least once per iteration
+	*	@return Returns mean and standard deviation of the time per operation over the measurement iterations.
+	*	@throws Exception if the work fails
+	*/
+	public Result measure(int warmups, int iterations, long iterationNanos) throws Exception{
+		for(int i = 0; i < warmups; i++)
+			iterate(iterationNanos);
+
+		double[] scores = new double[iterations];
+		double sum = 0;
+		for(int i = 0; i < iterations; i++){
+			scores[i] = iterate(iterationNanos);
+			sum += scores[i];
+		}
+		double mean = sum / iterations;
+		double squares = 0;
+		for(double score : scores)
+			squares += (score - mean) * (score - mean);
+		double deviation = iterations > 1 ? Math.sqrt(squares / (iterations - 1)) : 0;
+		return new Result(this, mean, deviation);
+	}
+
+	/**
+	*	Runs one iteration of the work.
+	*	@param iterationNanos minimum time of the iteration in nanoseconds
+	*	@return Returns mean time per operation in nanoseconds.
+	*	@throws Exception if the work fails
+	*/
+	private double iterate(long iterationNanos) throws Exception{
+		long ops = 0;
+		long start = System.nanoTime();
+		long elapsed;
+		do{
+			ops += work.run();
+			elapsed = System.nanoTime() - start;
+		}while(elapsed < iterationNanos);
+		return (double)elapsed / Math.max(ops, 1);
+	}
+
+	/**
+	*	Keeps a value alive, so the work computing it is not removed by the JIT compiler.
+	*	@param value result of the work
+	*/
+	public static void consume(long value){
+		sink ^= value;
+	}
+
+	/** Class for the score of a {@link Benchmark}.
+	* @author Andrei Hutu
+	* @version 18th October 2026
+	*/
+	public static class Result{
+		/**
+		*	Benchmark measured
+		*/
+		private Benchmark benchmark;
+		/**
+		*	Mean time per operation in nanoseconds
+		*/
+		private double mean;
+		/**
+		*	Standard deviation of the time per operation between iterations in nanoseconds
+		*/
+		private double deviation;
+
+		/**
+		*	Constructs new Result.
+		*	@param benchmarkIn benchmark measured
+		*	@param meanIn mean time per operation in nanoseconds
+		*	@param deviationIn standard deviation of the time per operation in nanoseconds
+		*/
+		public Result(Benchmark benchmarkIn, double meanIn, double deviationIn){
+			benchmark = benchmarkIn;
+			mean = meanIn;
+			deviation = deviationIn;
+		}
+
+		/**
+		*	Returns benchmark measured.
+		*	@return Returns benchmark measured.
+		*/
+		public Benchmark getBenchmark(){
+			return benchmark;
+		}
+
+		/**
+		*	Returns mean time per operation.
+		*	@return Returns mean time per operation in nanoseconds.
+		*/
+		public double getMean(){
+			return mean;
+		}
+
+		/**
+		*	Returns standard deviation of the time per operation between iterations.
+		*	@return Returns standard deviation in nanoseconds.
+		*/
+		public double getDeviation(){
+			return deviation;
+		}
+
+		/**
+		*	Returns string representation of Result.
+		*	@return Returns string representation of Result.
+		*/
+		public String toString(){
+			return String.format("%-24s %-24s %16.3f %14.3f  ns/op", benchmark.getName(), benchmark.getMaze(), mean, deviation);
+		}
+	}
+}
@@ -0,0 +1,251 @@
+package maze.benchmark;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.regex.Pattern;
+import maze.*;
+import maze.generation.*;
+import maze.routing.*;
+
+/** Command-line benchmark suite for maze loading, neighbour lookup, route finding and route files.
+* <p>Usage: {@code java -cp bin maze.benchmark.MazeBenchmarks [-w warmups] [-i iterations] [-t millis] [-s sizes] [-b regex] [-o results.csv] [dir...]}</p>
+* <p>Every benchmark runs over the .txt mazes in the given directories ({@code resources/mazes} by default) and over seeded perfect mazes generated for each size (10, 100, 1000 and 4000 tiles wide by default). Scores are the mean time per operation in nanoseconds, with the standard deviation between measurement iterations.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+* @see Benchmark
+*/
+public class MazeBenchmarks{
+	/**
+	*	Seed of the generated mazes, the same for every run so scores can be compared
+	*/
+	private static final long SEED = 42;
+
+	/**
+	*	Parses the command line, runs the benchmarks and prints the scores.
+	*	@param args command line arguments
+	*	@throws Exception if a maze cannot be loaded or a benchmark fails
+	*/
+	public static void main(String[] args) throws Exception{
+		int warmups = 3;
+		int iterations = 5;
+		long millis = 500;
+		int[] sizes = {10, 100, 1000, 4000};
+		Pattern filter = Pattern.compile(".*");
+		String output = null;
+		List<String> dirs = new ArrayList<String>();
+
+		for(int i = 0; i < args.length; i++){
+			switch(args[i]){
+				case "-w":
+					warmups = Integer.parseInt(args[++i]);
+					break;
+				case "-i":
+					iterations = Integer.parseInt(args[++i]);
+					break;
+				case "-t":
+					millis = Long.parseLong(args[++i]);
+					break;
+				case "-s":
+					sizes = Arrays.stream(args[++i].split(",")).mapToInt(Integer::parseInt).toArray();
+					break;
+				case "-b":
+					filter = Pattern.compile(args[++i]);
+					break;
+				case "-o":
+					output = args[++i];
+					break;
+				default:
+					dirs.add(args[i]);
+			}
+		}
+		if(dirs.isEmpty())
+			dirs.add("resources/mazes");
+
+		// Sample mazes, then generated mazes in increasing size
+		Map<String, Path> mazes = new LinkedHashMap<String, Path>();
+		for(String dir : dirs){
+			File[] files = new File(dir).listFiles((d, name) -> name.endsWith(".txt"));
+			if(files == null)
+				continue;
+			Arrays.sort(files);
+			for(File file : files)
+				mazes.put(file.getName(), file.toPath());
+		}
+		Path temp = Files.createTempDirectory("maze-bench");
+		for(int size : sizes){
+			Path path = temp.resolve("perfect" + size + ".txt");
+			new MazeGenerator(size, size, MazeGenerator.Style.RECURSIVE_BACKTRACKER, SEED).write(path.toString());
+			mazes.put("perfect" + size + "x" + size, path);
+		}
+
+		List<Benchmark.Result> results = new ArrayList<Benchmark.Result>();
+		System.out.println(String.format("%-24s %-24s %16s %14s  %s", "Benchmark", "Maze", "Score", "Error", "Units"));
+		try{
+			for(Map.Entry<String, Path> entry : mazes.entrySet()){
+				for(Benchmark benchmark : getBenchmarks(entry.getKey(), entry.getValue(), temp)){
+					if(!filter.matcher(benchmark.getName()).find())
+						continue;
+					Benchmark.Result result = benchmark.measure(warmups, iterations, millis * 1000000L);
+					results.add(result);
+					System.out.println(result);
+				}
+			}
+		}finally{
+			File[] files = temp.toFile().listFiles();
+			if(files != null){
+				for(File file : files)
+					file.delete();
+			}
+			Files.deleteIfExists(temp);
+		}
+
+		if(output != null){
+			try(BufferedWriter writer = Files.newBufferedWriter(Paths.get(output), StandardCharsets.UTF_8)){
+				writer.write("benchmark,maze,score_ns_per_op,error_ns\n");
+				for(Benchmark.Result result : results)
+					writer.write(String.format(Locale.ROOT, "%s,%s,%.3f,%.3f%n", result.getBenchmark().getName(), result.getBenchmark().getMaze(), result.getMean(), result.getDeviation()));
+			}
+		}
+	}
+
+	/**
+	*	Returns every benchmark for one maze.
+	*	@param name name of the maze
+	*	@param path path to .txt maze file
+	*	@param temp directory for route files
+	*	@return Returns benchmarks for the maze.
+	*	@throws maze.InvalidMazeException if the file cannot represent a valid maze
+	*	@throws java.io.IOException if the route file cannot be written
+	*/
+	static List<Benchmark> getBenchmarks(String name, Path path, Path temp) throws InvalidMazeException, IOException{
+		String file = path.toString();
+		Maze maze = Maze.fromTxt(file);
+		int nr_cells = maze.getWidth() * maze.getHeight();
+		List<Benchmark> benchmarks = new ArrayList<Benchmark>();
+
+		// Loading, per maze
+		benchmarks.add(new Benchmark("fromTxt", name, () -> {
+			Benchmark.consume(Maze.fromTxt(file).getWidth());
+			return 1;
+		}));
+
+		// Neighbour lookup, per call
+		benchmarks.add(new Benchmark("getAdjacentTile", name, () -> {
+			long sum = 0;
+			for(int i = 0; i < nr_cells; i++){
+				Tile tile = maze.getTile(i);
+				for(Maze.Direction dir : Maze.Direction.values()){
+					if(maze.getAdjacentTile(tile, dir) != null)
+						sum++;
+				}
+			}
+			Benchmark.consume(sum);
+			return 4L * nr_cells;
+		}));
+
+		// Location lookup, per call
+		benchmarks.add(new Benchmark("getTileLocation", name, () -> {
+			long sum = 0;
+			for(int i = 0; i < nr_cells; i++)
+				sum += maze.getTileLocation(maze.getTile(i)).getX();
+			Benchmark.consume(sum);
+			return nr_cells;
+		}));
+
+		// Stepping, per step
+		benchmarks.add(new Benchmark("RouteFinder.step", name, () -> {
+			RouteFinder rf = new RouteFinder(maze);
+			try{
+				while(!rf.step());
+			}catch(NoRouteFoundException err){}
+			return rf.getSteps();
+		}));
+
+		// Full solves, per maze
+		for(Solver.Strategy strategy : Solver.Strategy.values()){
+			benchmarks.add(new Benchmark("solve." + strategy, name, () -> {
+				try{
+					// New solver every time, so incremental solvers search from scratch
+					Benchmark.consume(strategy.getSolver().solve(maze).size());
+				}catch(NoRouteFoundException err){}
+				return 1;
+			}));
+		}
+
+		// Dead-end filling, per maze, and stepping through the pruned maze, per step
+		benchmarks.add(new Benchmark("DeadEndFiller.fill", name, () -> {
+			Benchmark.consume(DeadEndFiller.fill(maze).getWidth());
+			return 1;
+		}));
+		Maze pruned = DeadEndFiller.fill(maze);
+		benchmarks.add(new Benchmark("RouteFinder.step.pruned", name, () -> {
+			RouteFinder rf = new RouteFinder(pruned);
+			try{
+				while(!rf.step());
+			}catch(NoRouteFoundException err){}
+			return rf.getSteps();
+		}));
+
+		// Junction graph building, per maze, uncached
+		benchmarks.add(new Benchmark("JunctionGraph.build", name, () -> {
+			Benchmark.consume(new JunctionGraph(maze).getNodeCount());
+			return 1;
+		}));
+
+		// Connectivity index building, per maze, on a fresh copy so it is never cached
+		byte[] grid = maze.toGrid();
+		benchmarks.add(new Benchmark("Maze.isSolvable", name, () -> {
+			Benchmark.consume(Maze.fromGrid(maze.getWidth(), maze.getHeight(), grid).isSolvable() ? 1 : 0);
+			return 1;
+		}));
+
+		// Incremental re-solving, per edit, blocking the middle of the route and opening it again
+		Maze edited = Maze.fromGrid(maze.getWidth(), maze.getHeight(), grid);
+		IncrementalSolver incremental = new IncrementalSolver();
+		Maze.Coordinate middle = getRouteMiddle(edited, incremental);
+		if(middle != null){
+			benchmarks.add(new Benchmark("IncrementalSolver.tileChanged", name, () -> {
+				for(Tile.Type type : new Tile.Type[]{Tile.Type.WALL, Tile.Type.CORRIDOR}){
+					edited.setTileType(middle, type);
+					incremental.tileChanged(middle);
+					try{
+						Benchmark.consume(incremental.solve(edited).size());
+					}catch(NoRouteFoundException err){}
+				}
+				return 2;
+			}));
+		}
+
+		// Route files, per file
+		RouteFinder solved = new RouteFinder(maze);
+		solved.solve();
+		String route = temp.resolve(name + ".route").toString();
+		solved.save(route);
+		benchmarks.add(new Benchmark("RouteFinder.save", name, () -> {
+			solved.save(route);
+			return 1;
+		}));
+		benchmarks.add(new Benchmark("RouteFinder.load", name, () -> {
+			Benchmark.consume(RouteFinder.load(route).getRouteLength());
+			return 1;
+		}));
+		return benchmarks;
+	}
+
+	/**
+	*	Solves a maze and returns the tile in the middle of its route, which can be blocked without touching the entrance or exit.
+	*	@param maze Maze to be solved
+	*	@param solver solver to keep the search of the maze
+	*	@return Returns Coordinate of the middle of the route, or null if the maze has no solution or the route has no tile between entrance and exit.
+	*/
+	private static Maze.Coordinate getRouteMiddle(Maze maze, IncrementalSolver solver){
+		try{
+			List<Tile> route = solver.solve(maze);
+			return route.size() > 2 ? maze.getTileLocation(route.get(route.size() / 2)) : null;
+		}catch(NoRouteFoundException err){
+			return null;
+		}
+	}
+}
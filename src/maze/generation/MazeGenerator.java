@@ -0,0 +1,493 @@
+package maze.generation;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import maze.*;
+
+/** Class which generates seeded mazes, either as {@link maze.Maze} objects or as .txt files read by {@link maze.Maze#fromTxt(String)}.
+* <p>Mazes are built straight into a packed grid of {@link maze.Tile.Type} ordinals, which is handed to {@link maze.Maze#fromGrid(int, int, byte[])}. Cells sit on odd coordinates with walls between them, and every style carves passages between neighbouring cells. The entrance is in the top left cell and the exit in the bottom right cell.</p>
+* <p>The same size, style, seed and solvability always give the same maze.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+*/
+public class MazeGenerator{
+	/**
+	*	Corridor Tile type as stored in the grid
+	*/
+	private static final byte CORRIDOR = (byte)Tile.Type.CORRIDOR.ordinal();
+	/**
+	*	Entrance Tile type as stored in the grid
+	*/
+	private static final byte ENTRANCE = (byte)Tile.Type.ENTRANCE.ordinal();
+	/**
+	*	Exit Tile type as stored in the grid
+	*/
+	private static final byte EXIT = (byte)Tile.Type.EXIT.ordinal();
+	/**
+	*	Wall Tile type as stored in the grid
+	*/
+	private static final byte WALL = (byte)Tile.Type.WALL.ordinal();
+	/**
+	*	Characters of the .txt format, indexed by Tile type ordinal
+	*/
+	private static final byte[] CHARS = {'.', 'e', 'x', '#'};
+
+	/**
+	*	Number of columns of tiles
+	*/
+	private int width;
+	/**
+	*	Number of rows of tiles
+	*/
+	private int height;
+	/**
+	*	Carving style
+	*/
+	private Style style;
+	/**
+	*	Seed of the random carving order
+	*/
+	private long seed;
+	/**
+	*	Is there a route from the entrance to the exit?
+	*/
+	private boolean solvable = true;
+
+	/**
+	*	All carving styles
+	*/
+	public enum Style{
+		/**
+		*	Depth-first carving - long winding corridors, few dead ends
+		*/
+		RECURSIVE_BACKTRACKER,
+		/**
+		*	Randomized Prim's algorithm - short corridors, many dead ends
+		*/
+		PRIM,
+		/**
+		*	Randomized Kruskal's algorithm - evenly spread short corridors
+		*/
+		KRUSKAL,
+		/**
+		*	Backtracker maze with open rectangular rooms carved into it, giving loops and wide areas
+		*/
+		OPEN_ROOMS;
+	}
+
+	/**
+	*	Constructs new MazeGenerator.
+	*	@param widthIn number of columns of tiles, at least 3
+	*	@param heightIn number of rows of tiles, at least 3
+	*	@param styleIn carving style
+	*	@param seedIn seed of the random carving order
+	*	@throws IllegalArgumentException if the maze is smaller than 3x3 tiles or has room for only one cell
+	*/
+	public MazeGenerator(int widthIn, int heightIn, Style styleIn, long seedIn){
+		if(widthIn < 3 || heightIn < 3)
+			throw new IllegalArgumentException("Maze must be at least 3x3 tiles");
+		// Entrance and exit need separate cells
+		if(widthIn < 5 && heightIn < 5)
+			throw new IllegalArgumentException("Maze must be at least 5 tiles wide or high");
+		if((long)widthIn * heightIn > Integer.MAX_VALUE - 8)
+			throw new IllegalArgumentException("Maze too large");
+		width = widthIn;
+		height = heightIn;
+		style = styleIn;
+		seed = seedIn;
+	}
+
+	/**
+	*	Sets whether generated mazes have a route from the entrance to the exit.
+	*	<p>Unsolvable mazes are carved the same way, then the exit is walled in.</p>
+	*	@param solvableIn should the mazes have a solution
+	*/
+	public void setSolvable(boolean solvableIn){
+		solvable = solvableIn;
+	}
+
+	/**
+	*	Generates a maze in memory.
+	*	@return Returns new Maze object.
+	*/
+	public Maze generate(){
+		try{
+			return Maze.fromGrid(width, height, generateGrid());
+		}catch(InvalidMazeException err){
+			// Grid always has exactly one entrance and one exit
+			throw new IllegalStateException(err);
+		}
+	}
+
+	/**
+	*	Generates a maze and writes it to a .txt file.
+	*	@param path path of the .txt file
+	*	@throws java.io.IOException if an I/O error occurs while writing
+	*/
+	public void write(String path) throws IOException{
+		write(width, height, generateGrid(), path);
+	}
+
+	/**
+	*	Writes a maze to a .txt file, in the format read by {@link maze.Maze#fromTxt(String)}.
+	*	@param maze Maze to be written
+	*	@param path path of the .txt file
+	*	@throws java.io.IOException if an I/O error occurs while writing
+	*/
+	public static void write(Maze maze, String path) throws IOException{
+		write(maze.getWidth(), maze.getHeight(), maze.toGrid(), path);
+	}
+
+	/**
+	*	Writes a packed grid to a .txt file, top row first, with no trailing newline.
+	*	@param width number of columns
+	*	@param height number of rows
+	*	@param grid Tile type ordinals, indexed by y * width + x with y going bottom to top
+	*	@param path path of the .txt file
+	*	@throws java.io.IOException if an I/O error occurs while writing
+	*/
+	private static void write(int width, int height, byte[] grid, String path) throws IOException{
+		try (
+			FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
+		) {
+			ByteBuffer buffer = ByteBuffer.allocate(Math.max(1 << 20, width + 1));
+			for(int y = height - 1; y >= 0; y--){
+				if(buffer.remaining() < width + 1){
+					buffer.flip();
+					while(buffer.hasRemaining())
+						channel.write(buffer);
+					buffer.clear();
+				}
+				int row = y * width;
+				for(int x = 0; x < width; x++)
+					buffer.put(CHARS[grid[row + x]]);
+				if(y > 0)
+					buffer.put((byte)'\n');
+			}
+			buffer.flip();
+			while(buffer.hasRemaining())
+				channel.write(buffer);
+		}
+	}
+
+	/**
+	*	Generates the packed grid of a maze.
+	*	@return Returns Tile type ordinals, indexed by y * width + x with y going bottom to top.
+	*/
+	private byte[] generateGrid(){
+		byte[] grid = new byte[width * height];
+		Arrays.fill(grid, WALL);
+		SplittableRandom random = new SplittableRandom(seed);
+		int nr_col = (width - 1) / 2;
+		int nr_row = (height - 1) / 2;
+
+		switch(style){
+			case PRIM:
+				carvePrim(grid, nr_col, nr_row, random);
+				break;
+			case KRUSKAL:
+				carveKruskal(grid, nr_col, nr_row, random);
+				break;
+			case OPEN_ROOMS:
+				carveBacktracker(grid, nr_col, nr_row, random);
+				carveRooms(grid, random);
+				break;
+			default:
+				carveBacktracker(grid, nr_col, nr_row, random);
+		}
+
+		// Top left and bottom right cells
+		int entrance = tileOf(0, nr_row - 1, nr_col);
+		int exit = tileOf(nr_col - 1, 0, nr_col);
+		grid[entrance] = ENTRANCE;
+		grid[exit] = EXIT;
+		if(!solvable)
+			wallIn(grid, exit);
+		return grid;
+	}
+
+	/**
+	*	Carves a perfect maze depth-first, with an explicit stack.
+	*	@param grid grid to carve into
+	*	@param nr_col number of columns of cells
+	*	@param nr_row number of rows of cells
+	*	@param random source of the carving order
+	*/
+	private void carveBacktracker(byte[] grid, int nr_col, int nr_row, SplittableRandom random){
+		int[] stack = new int[nr_col * nr_row];
+		int[] options = new int[4];
+		int depth = 0;
+		grid[tileOf(0, 0, nr_col)] = CORRIDOR;
+		stack[depth++] = 0;
+		while(depth > 0){
+			int cell = stack[depth - 1];
+			int nr_options = unvisitedNeighbours(grid, cell, nr_col, nr_row, options);
+			if(nr_options == 0){
+				depth--;
+				continue;
+			}
+			int next = options[random.nextInt(nr_options)];
+			connect(grid, cell, next, nr_col);
+			stack[depth++] = next;
+		}
+	}
+
+	/**
+	*	Carves a perfect maze with randomized Prim's algorithm: a random frontier cell is joined to a random carved neighbour until no frontier is left.
+	*	@param grid grid to carve into
+	*	@param nr_col number of columns of cells
+	*	@param nr_row number of rows of cells
+	*	@param random source of the carving order
+	*/
+	private void carvePrim(byte[] grid, int nr_col, int nr_row, SplittableRandom random){
+		// Every cell enters the frontier at most once
+		BitSet seen = new BitSet(nr_col * nr_row);
+		int[] frontier = new int[nr_col * nr_row];
+		int[] options = new int[4];
+		int size = 0;
+
+		grid[tileOf(0, 0, nr_col)] = CORRIDOR;
+		seen.set(0);
+		size = addFrontier(grid, 0, nr_col, nr_row, seen, frontier, size, options);
+		while(size > 0){
+			// Remove random frontier cell
+			int pick = random.nextInt(size);
+			int cell = frontier[pick];
+			frontier[pick] = frontier[--size];
+
+			// Join it to a random carved neighbour
+			int nr_options = 0;
+			int x = cell % nr_col;
+			int y = cell / nr_col;
+			if(x > 0 && grid[tileOf(x - 1, y, nr_col)] != WALL)
+				options[nr_options++] = cell - 1;
+			if(x < nr_col - 1 && grid[tileOf(x + 1, y, nr_col)] != WALL)
+				options[nr_options++] = cell + 1;
+			if(y > 0 && grid[tileOf(x, y - 1, nr_col)] != WALL)
+				options[nr_options++] = cell - nr_col;
+			if(y < nr_row - 1 && grid[tileOf(x, y + 1, nr_col)] != WALL)
+				options[nr_options++] = cell + nr_col;
+			connect(grid, options[random.nextInt(nr_options)], cell, nr_col);
+			size = addFrontier(grid, cell, nr_col, nr_row, seen, frontier, size, options);
+		}
+	}
+
+	/**
+	*	Adds the uncarved neighbours of a cell to the Prim frontier, unless already added.
+	*	@param grid grid being carved
+	*	@param cell cell just carved
+	*	@param nr_col number of columns of cells
+	*	@param nr_row number of rows of cells
+	*	@param seen cells already added to the frontier
+	*	@param frontier frontier cells
+	*	@param size number of frontier cells
+	*	@param options scratch array of 4 cells
+	*	@return Returns new number of frontier cells.
+	*/
+	private int addFrontier(byte[] grid, int cell, int nr_col, int nr_row, BitSet seen, int[] frontier, int size, int[] options){
+		int nr_options = unvisitedNeighbours(grid, cell, nr_col, nr_row, options);
+		for(int i = 0; i < nr_options; i++){
+			if(!seen.get(options[i])){
+				seen.set(options[i]);
+				frontier[size++] = options[i];
+			}
+		}
+		return size;
+	}
+
+	/**
+	*	Carves a perfect maze with randomized Kruskal's algorithm: walls are removed in random order whenever they separate two unconnected cells.
+	*	@param grid grid to carve into
+	*	@param nr_col number of columns of cells
+	*	@param nr_row number of rows of cells
+	*	@param random source of the carving order
+	*/
+	private void carveKruskal(byte[] grid, int nr_col, int nr_row, SplittableRandom random){
+		int nr_cells = nr_col * nr_row;
+		// Wall 2 * cell is east of cell, 2 * cell + 1 is north of cell
+		int[] walls = new int[2 * nr_cells];
+		int nr_walls = 0;
+		for(int cell = 0; cell < nr_cells; cell++){
+			if(cell % nr_col < nr_col - 1)
+				walls[nr_walls++] = 2 * cell;
+			if(cell / nr_col < nr_row - 1)
+				walls[nr_walls++] = 2 * cell + 1;
+		}
+
+		// Union-find over cells, by rank with path halving
+		int[] parent = new int[nr_cells];
+		byte[] rank = new byte[nr_cells];
+		for(int cell = 0; cell < nr_cells; cell++){
+			parent[cell] = cell;
+			grid[tileOf(cell % nr_col, cell / nr_col, nr_col)] = CORRIDOR;
+		}
+
+		// Fisher-Yates shuffle, removing walls as they are drawn
+		for(int i = nr_walls - 1; i >= 0; i--){
+			int pick = random.nextInt(i + 1);
+			int wall = walls[pick];
+			walls[pick] = walls[i];
+
+			int cell = wall >> 1;
+			int other = (wall & 1) == 0 ? cell + 1 : cell + nr_col;
+			int root = find(parent, cell);
+			int other_root = find(parent, other);
+			if(root != other_root){
+				if(rank[root] < rank[other_root]){
+					parent[root] = other_root;
+				}else{
+					parent[other_root] = root;
+					if(rank[root] == rank[other_root])
+						rank[root]++;
+				}
+				connect(grid, cell, other, nr_col);
+			}
+		}
+	}
+
+	/**
+	*	Returns the root of a cell's set, halving the path on the way.
+	*	@param parent parent of every cell
+	*	@param cell cell to look up
+	*	@return Returns root of the set.
+	*/
+	private static int find(int[] parent, int cell){
+		while(parent[cell] != cell){
+			parent[cell] = parent[parent[cell]];
+			cell = parent[cell];
+		}
+		return cell;
+	}
+
+	/**
+	*	Carves open rectangular rooms into a maze, covering about a third of its area and keeping the outer wall.
+	*	@param grid grid to carve into
+	*	@param random source of room sizes and positions
+	*/
+	private void carveRooms(byte[] grid, SplittableRandom random){
+		int inner_width = width - 2;
+		int inner_height = height - 2;
+		long area = 0;
+		long target = (long)inner_width * inner_height / 3;
+		int max_size = Math.max(1, Math.min(16, Math.min(inner_width, inner_height)));
+		while(area < target){
+			int room_width = 1 + random.nextInt(max_size);
+			int room_height = 1 + random.nextInt(max_size);
+			int x0 = 1 + random.nextInt(inner_width - room_width + 1);
+			int y0 = 1 + random.nextInt(inner_height - room_height + 1);
+			for(int y = y0; y < y0 + room_height; y++)
+				Arrays.fill(grid, y * width + x0, y * width + x0 + room_width, CORRIDOR);
+			area += (long)room_width * room_height;
+		}
+	}
+
+	/**
+	*	Walls in every tile next to a cell, so it cannot be reached.
+	*	@param grid grid to change
+	*	@param tile index of the tile
+	*/
+	private void wallIn(byte[] grid, int tile){
+		// Cells are never on the outer edge, so all four neighbours exist
+		grid[tile - 1] = WALL;
+		grid[tile + 1] = WALL;
+		grid[tile - width] = WALL;
+		grid[tile + width] = WALL;
+	}
+
+	/**
+	*	Collects the neighbours of a cell which have not been carved yet.
+	*	@param grid grid being carved
+	*	@param cell cell index (y * nr_col + x)
+	*	@param nr_col number of columns of cells
+	*	@param nr_row number of rows of cells
+	*	@param options array of 4 filled with the neighbours
+	*	@return Returns number of neighbours found.
+	*/
+	private int unvisitedNeighbours(byte[] grid, int cell, int nr_col, int nr_row, int[] options){
+		int x = cell % nr_col;
+		int y = cell / nr_col;
+		int nr_options = 0;
+		if(x < nr_col - 1 && grid[tileOf(x + 1, y, nr_col)] == WALL)
+			options[nr_options++] = cell + 1;
+		if(x > 0 && grid[tileOf(x - 1, y, nr_col)] == WALL)
+			options[nr_options++] = cell - 1;
+		if(y < nr_row - 1 && grid[tileOf(x, y + 1, nr_col)] == WALL)
+			options[nr_options++] = cell + nr_col;
+		if(y > 0 && grid[tileOf(x, y - 1, nr_col)] == WALL)
+			options[nr_options++] = cell - nr_col;
+		return nr_options;
+	}
+
+	/**
+	*	Carves two neighbouring cells and the wall between them.
+	*	@param grid grid to carve into
+	*	@param cell first cell
+	*	@param next second cell, next to the first
+	*	@param nr_col number of columns of cells
+	*/
+	private void connect(byte[] grid, int cell, int next, int nr_col){
+		int a = tileOf(cell % nr_col, cell / nr_col, nr_col);
+		int b = tileOf(next % nr_col, next / nr_col, nr_col);
+		grid[a] = CORRIDOR;
+		grid[(a + b) / 2] = CORRIDOR;
+		grid[b] = CORRIDOR;
+	}
+
+	/**
+	*	Returns grid index of the tile of a cell.
+	*	@param x cell column
+	*	@param y cell row, bottom to top
+	*	@param nr_col number of columns of cells
+	*	@return Returns index of the tile in the grid.
+	*/
+	private int tileOf(int x, int y, int nr_col){
+		return (2 * y + 1) * width + 2 * x + 1;
+	}
+
+	/**
+	*	Generates a maze from the command line and writes it to a .txt file.
+	*	<p>Usage: {@code java -cp bin maze.generation.MazeGenerator [-w width] [-h height] [-s style] [-r seed] [-n] output.txt}, where {@code -n} generates a maze with no solution.</p>
+	*	@param args command line arguments
+	*	@throws java.io.IOException if an I/O error occurs while writing
+	*/
+	public static void main(String[] args) throws IOException{
+		int width = 101;
+		int height = 101;
+		Style style = Style.RECURSIVE_BACKTRACKER;
+		long seed = 0;
+		boolean solvable = true;
+		String output = null;
+		for(int i = 0; i < args.length; i++){
+			switch(args[i]){
+				case "-w":
+					width = Integer.parseInt(args[++i]);
+					break;
+				case "-h":
+					height = Integer.parseInt(args[++i]);
+					break;
+				case "-s":
+					style = Style.valueOf(args[++i].toUpperCase());
+					break;
+				case "-r":
+					seed = Long.parseLong(args[++i]);
+					break;
+				case "-n":
+					solvable = false;
+					break;
+				default:
+					output = args[i];
+			}
+		}
+		if(output == null){
+			System.err.println("Usage: java maze.generation.MazeGenerator [-w width] [-h height] [-s style] [-r seed] [-n] output.txt");
+			System.exit(2);
+		}
+
+		MazeGenerator generator = new MazeGenerator(width, height, style, seed);
+		generator.setSolvable(solvable);
+		generator.write(output);
+	}
+}
@@ -0,0 +1,69 @@
+package maze.routing;
+
+import java.util.*;
+import maze.*;
+
+/** {@link Solver} using A* search with the Manhattan distance heuristic, which finds a shortest route.
+* <p>The heuristic is consistent, so every cell is expanded at most once. Ties are broken in favour of cells further from the entrance, which keeps the search narrow in open areas.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+*/
+public class AStarSolver implements Solver{
+	/**
+	*	Finds a shortest route from the entrance to the exit of a {@link maze.Maze}.
+	*	@param maze Maze to be solved
+	*	@return Returns route of Tile objects from entrance to exit.
+	*	@throws NoRouteFoundException if the maze does not have a possible solution
+	*/
+	public List<Tile> solve(Maze maze) throws NoRouteFoundException{
+		long allocated = SolveMonitor.allocatedBytes();
+		long start_time = System.nanoTime();
+		Routes.checkSolvable(Solver.Strategy.A_STAR, maze, start_time, allocated);
+		int start = maze.getTileIndex(maze.getEntrance());
+		int end = maze.getTileIndex(maze.getExit());
+		int size = maze.getWidth() * maze.getHeight();
+
+		// Distance from entrance and parent of every reached cell
+		int[] dist = new int[size];
+		Arrays.fill(dist, Integer.MAX_VALUE);
+		int[] parent = new int[size];
+		BitSet closed = new BitSet(size);
+		CellHeap open = new CellHeap(1024);
+		long expanded = 0;
+		long reached = 1;
+		int peak = 1;
+
+		dist[start] = 0;
+		parent[start] = start;
+		open.push(Routes.heapKey(Routes.manhattan(maze, start, end), 0), start);
+		while(!open.isEmpty()){
+			int cell = open.pop();
+			// Stale heap entry
+			if(closed.get(cell))
+				continue;
+			if(cell == end){
+				SolveMonitor.publish(Solver.Strategy.A_STAR, maze, SolveResult.Status.FOUND, expanded, 0, peak, reached, start_time, allocated);
+				return Routes.fromParents(maze, parent, end);
+			}
+			closed.set(cell);
+			expanded++;
+
+			int nextDist = dist[cell] + 1;
+			for(Maze.Direction dir : Routes.DIRECTIONS){
+				int next = maze.getAdjacentIndex(cell, dir);
+				if(next != -1 && nextDist < dist[next] && maze.isNavigable(next)){
+					if(dist[next] == Integer.MAX_VALUE)
+						reached++;
+					dist[next] = nextDist;
+					parent[next] = cell;
+					open.push(Routes.heapKey(nextDist + Routes.manhattan(maze, next, end), nextDist), next);
+				}
+			}
+			peak = Math.max(peak, open.size());
+		}
+
+		// No solution
+		SolveMonitor.publish(Solver.Strategy.A_STAR, maze, SolveResult.Status.NO_ROUTE, expanded, 0, peak, reached, start_time, allocated);
+		throw new NoRouteFoundException();
+	}
+}
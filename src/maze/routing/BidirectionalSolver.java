@@ -0,0 +1,359 @@
+package maze.routing;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import maze.*;
+
+/** {@link Solver} using bidirectional breadth-first search, which finds a shortest route.
+* <p>One search starts from the entrance and one from the exit, each expanding a whole level of its frontier at a time, until they meet in the middle. On large mazes this explores roughly half the cells of a one-sided search, or far fewer in open areas.</p>
+* <p>By default both searches run on the calling thread, always expanding the smaller frontier. In parallel mode the exit search runs on a second thread and the two searches expand their levels side by side, waiting for each other after every level, which pays off when frontiers are wide.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+*/
+public class BidirectionalSolver implements Solver{
+	/**
+	*	Cell state bits per cell, packed into {@link Search#states}
+	*/
+	private static final int STATE_BITS = 4;
+	/**
+	*	Cell state bit set once a cell is reached
+	*/
+	private static final int REACHED = 1;
+	/**
+	*	Cell state bit set if the cell was reached from the exit
+	*/
+	private static final int FROM_EXIT = 2;
+	/**
+	*	Cell state bit holding the parity of the level the cell was reached at
+	*/
+	private static final int ODD_LEVEL = 4;
+
+	/**
+	*	Are the two searches run on two threads?
+	*/
+	private boolean parallel;
+
+	/**
+	*	Constructs new BidirectionalSolver running both searches on the calling thread.
+	*/
+	public BidirectionalSolver(){
+		this(false);
+	}
+
+	/**
+	*	Constructs new BidirectionalSolver.
+	*	@param parallelIn should the search from the exit run on a second thread
+	*/
+	public BidirectionalSolver(boolean parallelIn){
+		parallel = parallelIn;
+	}
+
+	/**
+	*	Finds a shortest route from the entrance to the exit of a {@link maze.Maze}.
+	*	@param maze Maze to be solved
+	*	@return Returns route of Tile objects from entrance to exit.
+	*	@throws NoRouteFoundException if the maze does not have a possible solution
+	*/
+	public List<Tile> solve(Maze maze) throws NoRouteFoundException{
+		long allocated = SolveMonitor.allocatedBytes();
+		long start_time = System.nanoTime();
+		Routes.checkSolvable(parallel ? Solver.Strategy.BIDIRECTIONAL_PARALLEL : Solver.Strategy.BIDIRECTIONAL, maze, start_time, allocated);
+		int size = maze.getWidth() * maze.getHeight();
+		int[] parent = new int[size];
+		AtomicLongArray states = new AtomicLongArray((int)(((long)size * STATE_BITS + 63) / 64));
+
+		Search forward = new Search(maze, parent, states, maze.getTileIndex(maze.getEntrance()), false, parallel);
+		Search backward = new Search(maze, parent, states, maze.getTileIndex(maze.getExit()), true, parallel);
+
+		if(parallel)
+			runParallel(forward, backward);
+		else
+			runAlternating(forward, backward);
+
+		// Best meeting of either search
+		Solver.Strategy strategy = parallel ? Solver.Strategy.BIDIRECTIONAL_PARALLEL : Solver.Strategy.BIDIRECTIONAL;
+		Search best = forward.bestCost <= backward.bestCost ? forward : backward;
+		long expanded = forward.expanded + backward.expanded;
+		long reached = forward.tail + backward.tail;
+		long peak = Math.max(forward.peak, backward.peak);
+		if(best.bestCost == Integer.MAX_VALUE){
+			SolveMonitor.publish(strategy, maze, SolveResult.Status.NO_ROUTE, expanded, 0, peak, reached, start_time, allocated);
+			throw new NoRouteFoundException();
+		}
+		SolveMonitor.publish(strategy, maze, SolveResult.Status.FOUND, expanded, 0, peak, reached, start_time, allocated);
+
+		// Cells on the entrance side and on the exit side of the meeting
+		int entrance_side = best.fromExit ? best.bestOther : best.bestCell;
+		int exit_side = best.fromExit ? best.bestCell : best.bestOther;
+		return join(maze, parent, entrance_side, exit_side);
+	}
+
+	/**
+	*	Runs both searches on the calling thread, expanding the smaller frontier first.
+	*	@param forward search from the entrance
+	*	@param backward search from the exit
+	*/
+	private static void runAlternating(Search forward, Search backward){
+		while(!forward.isOver() && !backward.isOver()){
+			if(forward.frontierSize() <= backward.frontierSize())
+				forward.expandLevel(backward.level);
+			else
+				backward.expandLevel(forward.level);
+		}
+	}
+
+	/**
+	*	Runs the search from the exit on a second thread, both searches expanding one level at a time and waiting for each other in between.
+	*	@param forward search from the entrance
+	*	@param backward search from the exit
+	*/
+	private static void runParallel(Search forward, Search backward){
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		FutureTask<Void> task = new FutureTask<Void>(() -> {
+			runLevels(backward, forward, barrier);
+			return null;
+		});
+		Thread thread = new Thread(task, "maze-bidirectional");
+		thread.setDaemon(true);
+		thread.start();
+		try{
+			runLevels(forward, backward, barrier);
+			task.get();
+		}catch(InterruptedException err){
+			Thread.currentThread().interrupt();
+			task.cancel(true);
+			throw new IllegalStateException("Interrupted while solving", err);
+		}catch(ExecutionException | BrokenBarrierException err){
+			task.cancel(true);
+			throw new IllegalStateException("Search from the exit failed", err);
+		}
+	}
+
+	/**
+	*	Expands one search a level at a time until either search is over, waiting for the other search after every level.
+	*	<p>Both threads see the same state after each barrier, so they stop after the same level.</p>
+	*	@param search search to be expanded
+	*	@param other search expanded on the other thread
+	*	@param barrier barrier shared by both threads
+	*	@throws InterruptedException if interrupted while waiting
+	*	@throws java.util.concurrent.BrokenBarrierException if the other thread failed
+	*/
+	private static void runLevels(Search search, Search other, CyclicBarrier barrier) throws InterruptedException, BrokenBarrierException{
+		while(true){
+			// Both searches start every level at the same depth
+			search.expandLevel(search.level);
+			barrier.await();
+			boolean over = search.isOver() || other.isOver();
+			// Nobody changes the searches before both have read them
+			barrier.await();
+			if(over)
+				return;
+		}
+	}
+
+	/**
+	*	Returns route through two adjacent cells, following parents to the entrance on one side and to the exit on the other.
+	*	@param maze Maze solved
+	*	@param parent parent of every reached cell, the entrance and exit being their own parents
+	*	@param entrance_side cell reached from the entrance
+	*	@param exit_side cell reached from the exit, next to entrance_side
+	*	@return Returns route of Tile objects from entrance to exit.
+	*/
+	private static List<Tile> join(Maze maze, int[] parent, int entrance_side, int exit_side){
+		List<Tile> route = Routes.fromParents(maze, parent, entrance_side);
+		int cell = exit_side;
+		while(true){
+			route.add(maze.getTile(cell));
+			if(parent[cell] == cell)
+				return route;
+			cell = parent[cell];
+		}
+	}
+
+	/** Class for the search from one end of the maze.
+	* <p>Cells reached by either search are claimed in a shared packed array of 4-bit states with compare-and-set, so each cell belongs to exactly one search. Only the owner of a cell writes its parent, and parents are not read until both searches are over.</p>
+	* @author Andrei Hutu
+	* @version 18th October 2026
+	*/
+	private static class Search{
+		/**
+		*	Maze searched
+		*/
+		private Maze maze;
+		/**
+		*	Parent of every reached cell, shared by both searches
+		*/
+		private int[] parent;
+		/**
+		*	Packed states of every cell, shared by both searches
+		*/
+		private AtomicLongArray states;
+		/**
+		*	Is this the search from the exit?
+		*/
+		private boolean fromExit;
+		/**
+		*	Does the other search run at the same time, so cells must be claimed atomically?
+		*/
+		private boolean concurrent;
+		/**
+		*	Cells reached by this search, in order of level
+		*/
+		private int[] queue;
+		/**
+		*	Position of the next cell to be expanded in {@link #queue}
+		*/
+		private int head;
+		/**
+		*	Number of cells in {@link #queue}
+		*/
+		private int tail;
+		/**
+		*	Level of the cells being expanded, their distance from the start of the search
+		*/
+		private int level;
+		/**
+		*	Number of cells expanded
+		*/
+		private long expanded;
+		/**
+		*	Largest frontier
+		*/
+		private int peak;
+		/**
+		*	Length of the shortest route through a meeting found, Integer.MAX_VALUE if none
+		*/
+		private int bestCost = Integer.MAX_VALUE;
+		/**
+		*	Cell of this search at the best meeting
+		*/
+		private int bestCell;
+		/**
+		*	Cell of the other search at the best meeting
+		*/
+		private int bestOther;
+
+		/**
+		*	Constructs new Search and reaches its start cell.
+		*	@param mazeIn Maze searched
+		*	@param parentIn parent array shared by both searches
+		*	@param statesIn state array shared by both searches
+		*	@param start start cell of the search
+		*	@param fromExitIn is this the search from the exit
+		*	@param concurrentIn does the other search run at the same time
+		*/
+		Search(Maze mazeIn, int[] parentIn, AtomicLongArray statesIn, int start, boolean fromExitIn, boolean concurrentIn){
+			maze = mazeIn;
+			parent = parentIn;
+			states = statesIn;
+			fromExit = fromExitIn;
+			concurrent = concurrentIn;
+			queue = new int[1024];
+			parent[start] = start;
+			claim(start, state(0));
+			queue[tail++] = start;
+			peak = 1;
+		}
+
+		/**
+		*	Returns if the search is over: a meeting was found or the frontier is empty.
+		*	@return Returns if the search is over.
+		*/
+		boolean isOver(){
+			return bestCost != Integer.MAX_VALUE || head == tail;
+		}
+
+		/**
+		*	Returns number of cells in the frontier.
+		*	@return Returns number of cells waiting to be expanded.
+		*/
+		int frontierSize(){
+			return tail - head;
+		}
+
+		/**
+		*	Expands every cell of the current level, reaching the cells of the next level and recording meetings with the other search.
+		*	@param other_level level of the other search's frontier when this level started
+		*/
+		void expandLevel(int other_level){
+			int level_end = tail;
+			int next_state = state(level + 1);
+			while(head < level_end){
+				int cell = queue[head++];
+				expanded++;
+				for(Maze.Direction dir : Routes.DIRECTIONS){
+					int next = maze.getAdjacentIndex(cell, dir);
+					if(next == -1 || !maze.isNavigable(next))
+						continue;
+					int found = claim(next, next_state);
+					if(found == 0){
+						parent[next] = cell;
+						if(tail == queue.length)
+							queue = Arrays.copyOf(queue, tail * 2);
+						queue[tail++] = next;
+					}else if((found & FROM_EXIT) != (next_state & FROM_EXIT)){
+						meet(cell, next, found, other_level);
+					}
+				}
+			}
+			peak = Math.max(peak, tail - head);
+			level++;
+		}
+
+		/**
+		*	Records a meeting with the other search if it gives a shorter route than the best so far.
+		*	<p>A cell of the other search next to this level is at the other search's frontier level or the one after it, told apart by the level parity in its state.</p>
+		*	@param cell cell of this search
+		*	@param next adjacent cell of the other search
+		*	@param found state of next
+		*	@param other_level level of the other search's frontier when this level started
+		*/
+		private void meet(int cell, int next, int found, int other_level){
+			boolean odd = (found & ODD_LEVEL) != 0;
+			if(odd != ((other_level & 1) == 1))
+				other_level++;
+			int cost = level + 1 + other_level;
+			if(cost < bestCost){
+				bestCost = cost;
+				bestCell = cell;
+				bestOther = next;
+			}
+		}
+
+		/**
+		*	Returns state of a cell reached by this search at a given level.
+		*	@param at level of the cell
+		*	@return Returns state bits of the cell.
+		*/
+		private int state(int at){
+			return REACHED | (fromExit ? FROM_EXIT : 0) | ((at & 1) == 1 ? ODD_LEVEL : 0);
+		}
+
+		/**
+		*	Claims an unreached cell.
+		*	@param cell cell to be claimed
+		*	@param state state bits of the cell
+		*	@return Returns 0 if the cell was claimed, or the state of the cell if it was already reached.
+		*/
+		private int claim(int cell, int state){
+			int word = (int)((long)cell * STATE_BITS >>> 6);
+			int shift = (int)((long)cell * STATE_BITS & 63);
+			if(!concurrent){
+				long bits = states.getPlain(word);
+				int current = (int)(bits >>> shift) & 0xf;
+				if(current == 0)
+					states.setPlain(word, bits | ((long)state << shift));
+				return current;
+			}
+			while(true){
+				long bits = states.get(word);
+				int current = (int)(bits >>> shift) & 0xf;
+				if(current != 0)
+					return current;
+				if(states.compareAndSet(word, bits, bits | ((long)state << shift)))
+					return 0;
+			}
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package maze.routing;
+
+import java.util.*;
+import maze.*;
+
+/** {@link Solver} using breadth-first search, which finds a shortest route.
+* <p>Every cell is visited at most once, so solving takes time linear in the size of the {@link maze.Maze}.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+*/
+public class BreadthFirstSolver implements Solver{
+	/**
+	*	Finds a shortest route from the entrance to the exit of a {@link maze.Maze}.
+	*	@param maze Maze to be solved
+	*	@return Returns route of Tile objects from entrance to exit.
+	*	@throws NoRouteFoundException if the maze does not have a possible solution
+	*/
+	public List<Tile> solve(Maze maze) throws NoRouteFoundException{
+		long allocated = SolveMonitor.allocatedBytes();
+		long start_time = System.nanoTime();
+		Routes.checkSolvable(Solver.Strategy.BREADTH_FIRST, maze, start_time, allocated);
+		int start = maze.getTileIndex(maze.getEntrance());
+		int end = maze.getTileIndex(maze.getExit());
+
+		// Parent of every reached cell, -1 if not reached yet
+		int[] parent = new int[maze.getWidth() * maze.getHeight()];
+		Arrays.fill(parent, -1);
+		// Every cell is queued at most once
+		int[] queue = new int[parent.length];
+		int head = 0;
+		int tail = 0;
+		int peak = 0;
+
+		parent[start] = start;
+		queue[tail++] = start;
+		while(head < tail){
+			int cell = queue[head++];
+			if(cell == end){
+				SolveMonitor.publish(Solver.Strategy.BREADTH_FIRST, maze, SolveResult.Status.FOUND, head, 0, peak, tail, start_time, allocated);
+				return Routes.fromParents(maze, parent, end);
+			}
+
+			for(Maze.Direction dir : Routes.DIRECTIONS){
+				int next = maze.getAdjacentIndex(cell, dir);
+				if(next != -1 && parent[next] == -1 && maze.isNavigable(next)){
+					parent[next] = cell;
+					queue[tail++] = next;
+				}
+			}
+			peak = Math.max(peak, tail - head);
+		}
+
+		// No solution
+		SolveMonitor.publish(Solver.Strategy.BREADTH_FIRST, maze, SolveResult.Status.NO_ROUTE, head, 0, peak, tail, start_time, allocated);
+		throw new NoRouteFoundException();
+	}
+}
@@ -0,0 +1,111 @@
+package maze.routing;
+
+import java.util.Arrays;
+
+/** Monotone priority queue of cell indices with small integer priorities, one bucket per priority.
+* <p>Suited to A* with a consistent heuristic, where the priority popped never goes down: pushing and popping take constant time instead of the logarithmic time of {@link CellHeap}. Within a bucket the cell pushed last is popped first, which favours cells further from the start among those with the same priority.</p>
+* <p>Like {@link CellHeap}, cells are never decreased in place: a cell is pushed again with its new priority and stale entries are skipped by the caller when popped.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+*/
+class BucketQueue{
+	/**
+	*	First entry of every bucket, -1 if empty, indexed by priority
+	*/
+	private int[] heads;
+	/**
+	*	Cell of every entry
+	*/
+	private int[] cells;
+	/**
+	*	Next entry in the same bucket, -1 for the last one
+	*/
+	private int[] next;
+	/**
+	*	Number of entries pushed since cleared, including popped ones
+	*/
+	private int nr_entries;
+	/**
+	*	Number of entries not popped yet
+	*/
+	private int size;
+	/**
+	*	Lowest priority which may have entries
+	*/
+	private int lowest;
+	/**
+	*	Highest priority pushed since cleared
+	*/
+	private int highest;
+
+	/**
+	*	Constructs empty BucketQueue.
+	*	@param capacity initial number of entries and of priorities
+	*/
+	BucketQueue(int capacity){
+		capacity = Math.max(capacity, 16);
+		heads = new int[capacity];
+		Arrays.fill(heads, -1);
+		cells = new int[capacity];
+		next = new int[capacity];
+		clear();
+	}
+
+	/**
+	*	Returns if the queue is empty.
+	*	@return Returns if the queue is empty.
+	*/
+	boolean isEmpty(){
+		return size == 0;
+	}
+
+	/**
+	*	Remove all entries, in time proportional to the range of priorities used.
+	*/
+	void clear(){
+		if(size > 0)
+			Arrays.fill(heads, lowest, highest + 1, -1);
+		nr_entries = 0;
+		size = 0;
+		lowest = Integer.MAX_VALUE;
+		highest = -1;
+	}
+
+	/**
+	*	Add cell with given priority.
+	*	@param priority priority of the cell, not below the priority last popped
+	*	@param cell index of the cell
+	*/
+	void push(int priority, int cell){
+		if(priority >= heads.length){
+			int old = heads.length;
+			heads = Arrays.copyOf(heads, Math.max(priority + 1, old * 2));
+			Arrays.fill(heads, old, heads.length, -1);
+		}
+		if(nr_entries == cells.length){
+			cells = Arrays.copyOf(cells, nr_entries * 2);
+			next = Arrays.copyOf(next, nr_entries * 2);
+		}
+		cells[nr_entries] = cell;
+		next[nr_entries] = heads[priority];
+		heads[priority] = nr_entries++;
+		size++;
+		if(priority < lowest)
+			lowest = priority;
+		if(priority > highest)
+			highest = priority;
+	}
+
+	/**
+	*	Remove and return a cell with the lowest priority.
+	*	@return Returns cell with the lowest priority, pushed last among those.
+	*/
+	int pop(){
+		while(heads[lowest] == -1)
+			lowest++;
+		int entry = heads[lowest];
+		heads[lowest] = next[entry];
+		size--;
+		return cells[entry];
+	}
+}
@@ -0,0 +1,60 @@
+package maze.routing;
+
+import java.util.*;
+import maze.*;
+
+/** {@link Solver} which looks mazes up in a {@link RouteCache} before running another solver on them.
+* <p>A maze with the same content as one solved before is answered by hashing its grid and replaying the cached moves, without searching. Mazes with no solution are cached too.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+*/
+public class CachedSolver implements Solver{
+	/**
+	*	Solver run on mazes which are not cached
+	*/
+	private Solver solver;
+	/**
+	*	Name the routes of {@link #solver} are cached under
+	*/
+	private String name;
+	/**
+	*	Cache of solved routes
+	*/
+	private RouteCache cache;
+
+	/**
+	*	Constructs new CachedSolver.
+	*	@param solverIn solver run on mazes which are not cached
+	*	@param nameIn name the routes of the solver are cached under, different for solvers which may find different routes
+	*	@param cacheIn cache of solved routes, which may be shared with other solvers
+	*/
+	public CachedSolver(Solver solverIn, String nameIn, RouteCache cacheIn){
+		solver = solverIn;
+		name = nameIn;
+		cache = cacheIn;
+	}
+
+	/**
+	*	Finds a route from the entrance to the exit of a {@link maze.Maze}, from the cache if it was solved before.
+	*	@param maze Maze to be solved
+	*	@return Returns route of Tile objects of the maze from entrance to exit.
+	*	@throws NoRouteFoundException if the maze does not have a possible solution
+	*/
+	public List<Tile> solve(Maze maze) throws NoRouteFoundException{
+		List<Tile> route = cache.get(maze, name);
+		if(route != null){
+			if(route.isEmpty())
+				throw new NoRouteFoundException();
+			return route;
+		}
+
+		try{
+			route = solver.solve(maze);
+		}catch(NoRouteFoundException err){
+			cache.put(maze, name, Collections.<Tile>emptyList());
+			throw err;
+		}
+		cache.put(maze, name, route);
+		return route;
+	}
+}
@@ -0,0 +1,123 @@
+package maze.routing;
+
+import java.util.Arrays;
+
+/** Binary min-heap of cell indices ordered by long keys, without boxing.
+* <p>Cells are never decreased in place: a cell is pushed again with its new key and stale entries are skipped by the caller when popped.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+*/
+class CellHeap{
+	/**
+	*	Keys of the entries, in heap order
+	*/
+	private long[] keys;
+	/**
+	*	Cell indices of the entries, in heap order
+	*/
+	private int[] cells;
+	/**
+	*	Number of entries
+	*/
+	private int size;
+
+	/**
+	*	Constructs empty CellHeap.
+	*	@param capacity initial capacity
+	*/
+	CellHeap(int capacity){
+		keys = new long[Math.max(capacity, 16)];
+		cells = new int[keys.length];
+		size = 0;
+	}
+
+	/**
+	*	Returns if the heap is empty.
+	*	@return Returns if the heap is empty.
+	*/
+	boolean isEmpty(){
+		return size == 0;
+	}
+
+	/**
+	*	Returns number of entries, including stale ones.
+	*	@return Returns number of entries.
+	*/
+	int size(){
+		return size;
+	}
+
+	/**
+	*	Remove all entries.
+	*/
+	void clear(){
+		size = 0;
+	}
+
+	/**
+	*	Returns smallest key.
+	*	@return Returns smallest key.
+	*/
+	long peekKey(){
+		return keys[0];
+	}
+
+	/**
+	*	Returns cell with the smallest key.
+	*	@return Returns cell with the smallest key.
+	*/
+	int peek(){
+		return cells[0];
+	}
+
+	/**
+	*	Add cell with given key.
+	*	@param key key of the cell
+	*	@param cell index of the cell
+	*/
+	void push(long key, int cell){
+		if(size == keys.length){
+			keys = Arrays.copyOf(keys, size * 2);
+			cells = Arrays.copyOf(cells, size * 2);
+		}
+		// Sift up
+		int i = size++;
+		while(i > 0){
+			int parent = (i - 1) >>> 1;
+			if(keys[parent] <= key)
+				break;
+			keys[i] = keys[parent];
+			cells[i] = cells[parent];
+			i = parent;
+		}
+		keys[i] = key;
+		cells[i] = cell;
+	}
+
+	/**
+	*	Remove and return cell with the smallest key.
+	*	@return Returns cell with the smallest key.
+	*/
+	int pop(){
+		int top = cells[0];
+		size--;
+		long key = keys[size];
+		int cell = cells[size];
+		// Sift down
+		int i = 0;
+		int half = size >>> 1;
+		while(i < half){
+			int child = 2 * i + 1;
+			if(child + 1 < size && keys[child + 1] < keys[child])
+				child++;
+			if(key <= keys[child])
+				break;
+			keys[i] = keys[child];
+			cells[i] = cells[child];
+			i = child;
+		}
+		keys[i] = key;
+		cells[i] = cell;
+		return top;
+	}
+}
@@ -0,0 +1,104 @@
+package maze.routing;
+
+import maze.*;
+
+/** Preprocessor which fills the dead ends of a {@link maze.Maze} with walls before it is solved.
+* <p>A dead end is a navigable cell other than the entrance and exit with at most one navigable neighbour. Such a cell can never be on a route, and once it is filled its neighbour may become a dead end in turn, so whole dead-end corridors are filled back to the junction they branch off. What is left of a perfect maze is the route itself, so a solver run on the pruned maze never has to backtrack.</p>
+* <p>Filling a cell can only turn its one remaining neighbour into a new dead end, so instead of a work queue the pass follows every dead-end corridor as soon as it finds its end. Every cell is scanned once and filled at most once, so the pass takes linear time and needs no memory besides the pruned grid.</p>
+* <p>The pruned maze has the same size and cell indices as the original, so a route through it is also a route through the original.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+* @see PrunedSolver
+*/
+public class DeadEndFiller{
+	/**
+	*	Entrance Tile type as stored in a packed grid
+	*/
+	private static final byte ENTRANCE = (byte)Tile.Type.ENTRANCE.ordinal();
+	/**
+	*	Exit Tile type as stored in a packed grid
+	*/
+	private static final byte EXIT = (byte)Tile.Type.EXIT.ordinal();
+	/**
+	*	Wall Tile type as stored in a packed grid
+	*/
+	private static final byte WALL = (byte)Tile.Type.WALL.ordinal();
+
+	/**
+	*	Not instantiable.
+	*/
+	private DeadEndFiller(){}
+
+	/**
+	*	Returns copy of a maze with every dead end filled with walls.
+	*	@param maze Maze to be pruned
+	*	@return Returns new Maze object of the same size, with the same entrance and exit.
+	*/
+	public static Maze fill(Maze maze){
+		int width = maze.getWidth();
+		byte[] grid = maze.toGrid();
+		for(int i = 0, col = 0; i < grid.length; i++, col = col == width - 1 ? 0 : col + 1){
+			int cell = i;
+			int x = col;
+			// Follow the corridor while filling leaves a new dead end
+			while(isDeadEnd(grid, width, cell, x)){
+				grid[cell] = WALL;
+				cell = openNeighbour(grid, width, cell, x);
+				if(cell == -1)
+					break;
+				x = cell % width;
+			}
+		}
+		try{
+			return Maze.fromGrid(width, maze.getHeight(), grid);
+		}catch(InvalidMazeException err){
+			// Entrance and exit are never filled
+			throw new IllegalStateException(err);
+		}
+	}
+
+	/**
+	*	Returns if a cell of a grid is a dead end.
+	*	<p>Neighbours are found from the column of the cell, rather than with {@link maze.Maze#getAdjacentIndex(int, maze.Maze.Direction)}, to avoid a division per neighbour.</p>
+	*	@param grid packed grid being filled
+	*	@param width number of columns of the grid
+	*	@param cell index of the cell
+	*	@param x column of the cell
+	*	@return Returns if the cell is navigable, neither the entrance nor the exit, and has at most one navigable neighbour.
+	*/
+	private static boolean isDeadEnd(byte[] grid, int width, int cell, int x){
+		byte type = grid[cell];
+		if(type == WALL || type == ENTRANCE || type == EXIT)
+			return false;
+		int nr_open = 0;
+		if(x < width - 1 && grid[cell + 1] != WALL)
+			nr_open++;
+		if(cell >= width && grid[cell - width] != WALL)
+			nr_open++;
+		if(x > 0 && grid[cell - 1] != WALL)
+			nr_open++;
+		if(cell < grid.length - width && grid[cell + width] != WALL)
+			nr_open++;
+		return nr_open <= 1;
+	}
+
+	/**
+	*	Returns a navigable neighbour of a cell of a grid.
+	*	@param grid packed grid being filled
+	*	@param width number of columns of the grid
+	*	@param cell index of the cell
+	*	@param x column of the cell
+	*	@return Returns index of the first navigable neighbour or -1 if there is none.
+	*/
+	private static int openNeighbour(byte[] grid, int width, int cell, int x){
+		if(x < width - 1 && grid[cell + 1] != WALL)
+			return cell + 1;
+		if(cell >= width && grid[cell - width] != WALL)
+			return cell - width;
+		if(x > 0 && grid[cell - 1] != WALL)
+			return cell - 1;
+		if(cell < grid.length - width && grid[cell + width] != WALL)
+			return cell + width;
+		return -1;
+	}
+}
@@ -0,0 +1,25 @@
+package maze.routing;
+
+import java.util.List;
+import maze.*;
+
+/** {@link Solver} which runs the backtracking search of {@link RouteFinder} to completion.
+* <p>The route found is not necessarily the shortest one.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+* @see RouteFinder
+*/
+public class DepthFirstSolver implements Solver{
+	/**
+	*	Finds a route from the entrance to the exit of a {@link maze.Maze}.
+	*	@param maze Maze to be solved
+	*	@return Returns route of Tile objects from entrance to exit.
+	*	@throws NoRouteFoundException if the maze does not have a possible solution
+	*/
+	public List<Tile> solve(Maze maze) throws NoRouteFoundException{
+		RouteFinder rf = new RouteFinder(maze);
+		if(!rf.solve().isFound())
+			throw new NoRouteFoundException();
+		return rf.getRoute();
+	}
+}
@@ -0,0 +1,292 @@
+package maze.routing;
+
+import java.util.*;
+import maze.*;
+
+/** {@link Solver} using Lifelong Planning A* (LPA*), which finds a shortest route and repairs it after the {@link maze.Maze} is edited.
+* <p>The search keeps, for every cell, its distance from the entrance (g) and the distance its neighbours currently offer (rhs). A cell whose two values differ is inconsistent and waits in the open list, ordered like A* by its distance plus the Manhattan distance to the exit. The first solve is an A* search. After {@link maze.Maze#setTileType(maze.Maze.Coordinate, maze.Tile.Type)} changes some tiles and {@link #tileChanged(maze.Maze.Coordinate)} reports them, only the changed cells and their neighbours are made inconsistent again, so the next solve only visits the cells whose distance the edits actually changed.</p>
+* <p>Unlike the other solvers, an IncrementalSolver keeps the state of its last search, so it must not be shared between threads. Solving another maze, or a maze edited without every change being reported, starts a new search.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+*/
+public class IncrementalSolver implements Solver{
+	/**
+	*	Distance of cells which cannot be reached
+	*/
+	private static final int INFINITY = Integer.MAX_VALUE;
+
+	/**
+	*	Maze of the last search, null before the first solve
+	*/
+	private Maze maze;
+	/**
+	*	{@link maze.Maze#getModCount()} of the maze when the last search finished
+	*/
+	private int modCount;
+	/**
+	*	Entrance cell
+	*/
+	private int start;
+	/**
+	*	Exit cell
+	*/
+	private int end;
+	/**
+	*	Distance from the entrance of every cell, as of its last expansion
+	*/
+	private int[] g;
+	/**
+	*	Distance from the entrance of every cell through its best neighbour
+	*/
+	private int[] rhs;
+	/**
+	*	Inconsistent cells, possibly with stale entries
+	*/
+	private CellHeap open;
+	/**
+	*	Cells reported by {@link #tileChanged(maze.Maze.Coordinate)} since the last solve
+	*/
+	private int[] changed;
+	/**
+	*	Number of cells in {@link #changed}
+	*/
+	private int nr_changed;
+	/**
+	*	Number of the current solve
+	*/
+	private int solveCount;
+	/**
+	*	Number of the last solve which queued every cell
+	*/
+	private int[] queuedIn;
+	/**
+	*	Number of distinct cells queued by the current solve
+	*/
+	private long reached;
+	/**
+	*	Largest size of the open list during the current solve
+	*/
+	private int peak;
+
+	/**
+	*	Constructs new IncrementalSolver, which starts searching on its first solve.
+	*/
+	public IncrementalSolver(){
+		changed = new int[16];
+	}
+
+	/**
+	*	Finds a shortest route from the entrance to the exit of a {@link maze.Maze}, repairing the last search if it was of the same maze.
+	*	@param mazeIn Maze to be solved
+	*	@return Returns route of Tile objects from entrance to exit.
+	*	@throws NoRouteFoundException if the maze does not have a possible solution
+	*/
+	public List<Tile> solve(Maze mazeIn) throws NoRouteFoundException{
+		long allocated = SolveMonitor.allocatedBytes();
+		long start_time = System.nanoTime();
+		if(mazeIn != maze || mazeIn.getModCount() - modCount != nr_changed){
+			// New search, so unsolvable mazes are still rejected in linear time
+			Routes.checkSolvable(Solver.Strategy.INCREMENTAL, mazeIn, start_time, allocated);
+			reset(mazeIn);
+		}else{
+			begin();
+			for(int i = 0; i < nr_changed; i++){
+				update(changed[i]);
+				for(Maze.Direction dir : Routes.DIRECTIONS){
+					int next = maze.getAdjacentIndex(changed[i], dir);
+					if(next != -1)
+						update(next);
+				}
+			}
+		}
+		nr_changed = 0;
+		modCount = maze.getModCount();
+
+		long expanded = search();
+		if(g[end] == INFINITY){
+			SolveMonitor.publish(Solver.Strategy.INCREMENTAL, maze, SolveResult.Status.NO_ROUTE, expanded, 0, peak, reached, start_time, allocated);
+			throw new NoRouteFoundException();
+		}
+		SolveMonitor.publish(Solver.Strategy.INCREMENTAL, maze, SolveResult.Status.FOUND, expanded, 0, peak, reached, start_time, allocated);
+		return route();
+	}
+
+	/**
+	*	Reports a tile changed with {@link maze.Maze#setTileType(maze.Maze.Coordinate, maze.Tile.Type)}, to be taken into account by the next solve.
+	*	<p>Must be called once for every call which changed a tile, otherwise the next solve starts a new search.</p>
+	*	@param coord Coordinate of the changed tile
+	*	@throws IllegalArgumentException if the coordinate is outside the maze of the last search
+	*/
+	public void tileChanged(Maze.Coordinate coord){
+		if(maze == null)
+			return;
+		if(coord.getX() < 0 || coord.getX() >= maze.getWidth() || coord.getY() < 0 || coord.getY() >= maze.getHeight())
+			throw new IllegalArgumentException("Coordinate " + coord + " is outside the maze");
+		if(nr_changed == changed.length)
+			changed = Arrays.copyOf(changed, nr_changed * 2);
+		changed[nr_changed++] = coord.getY() * maze.getWidth() + coord.getX();
+	}
+
+	/**
+	*	Starts a new search of a maze, with only the entrance inconsistent.
+	*	@param mazeIn Maze to be solved
+	*/
+	private void reset(Maze mazeIn){
+		maze = mazeIn;
+		int size = maze.getWidth() * maze.getHeight();
+		start = maze.getTileIndex(maze.getEntrance());
+		end = maze.getTileIndex(maze.getExit());
+		g = new int[size];
+		Arrays.fill(g, INFINITY);
+		rhs = new int[size];
+		Arrays.fill(rhs, INFINITY);
+		open = new CellHeap(1024);
+		queuedIn = new int[size];
+		solveCount = 0;
+		begin();
+		rhs[start] = 0;
+		enqueue(start);
+	}
+
+	/**
+	*	Starts counting the metrics of a new solve.
+	*/
+	private void begin(){
+		// Wrapping around would make old solve numbers look current
+		if(++solveCount == Integer.MAX_VALUE){
+			Arrays.fill(queuedIn, 0);
+			solveCount = 1;
+		}
+		reached = 0;
+		peak = open.size();
+	}
+
+	/**
+	*	Expands inconsistent cells in key order until the exit is consistent and no cell before it is inconsistent.
+	*	@return Returns number of cells expanded.
+	*/
+	private long search(){
+		long expanded = 0;
+		while(true){
+			// Skip stale entries
+			while(!open.isEmpty() && !isCurrent(open.peek(), open.peekKey()))
+				open.pop();
+			if(open.isEmpty() || (open.peekKey() >= key(end) && g[end] == rhs[end]))
+				return expanded;
+
+			int cell = open.pop();
+			expanded++;
+			if(g[cell] > rhs[cell]){
+				// Shorter route found, offered on to the neighbours
+				g[cell] = rhs[cell];
+				for(Maze.Direction dir : Routes.DIRECTIONS){
+					int next = maze.getAdjacentIndex(cell, dir);
+					if(next != -1 && next != start && maze.isNavigable(next) && g[cell] + 1 < rhs[next]){
+						rhs[next] = g[cell] + 1;
+						enqueue(next);
+					}
+				}
+			}else{
+				// Route through the cell lost, neighbours which relied on it look again
+				int old = g[cell];
+				g[cell] = INFINITY;
+				update(cell);
+				for(Maze.Direction dir : Routes.DIRECTIONS){
+					int next = maze.getAdjacentIndex(cell, dir);
+					if(next != -1 && rhs[next] == old + 1)
+						update(next);
+				}
+			}
+			if(open.size() > g.length)
+				compact();
+		}
+	}
+
+	/**
+	*	Recomputes the distance a cell is offered by its neighbours, and queues it if it became inconsistent.
+	*	@param cell index of the cell
+	*/
+	private void update(int cell){
+		if(cell == start)
+			return;
+		int best = INFINITY;
+		if(maze.isNavigable(cell)){
+			for(Maze.Direction dir : Routes.DIRECTIONS){
+				int next = maze.getAdjacentIndex(cell, dir);
+				if(next != -1 && g[next] != INFINITY && g[next] + 1 < best && maze.isNavigable(next))
+					best = g[next] + 1;
+			}
+		}
+		rhs[cell] = best;
+		enqueue(cell);
+	}
+
+	/**
+	*	Queues a cell with its current key if it is inconsistent, counting it as reached by the current solve.
+	*	@param cell index of the cell
+	*/
+	private void enqueue(int cell){
+		if(g[cell] != rhs[cell]){
+			open.push(key(cell), cell);
+			if(open.size() > peak)
+				peak = open.size();
+			if(queuedIn[cell] != solveCount){
+				queuedIn[cell] = solveCount;
+				reached++;
+			}
+		}
+	}
+
+	/**
+	*	Returns if an entry of the open list is still current: its cell is inconsistent and the key is the cell's current key.
+	*	@param cell index of the cell
+	*	@param key key of the entry
+	*	@return Returns if the entry should be expanded.
+	*/
+	private boolean isCurrent(int cell, long key){
+		return g[cell] != rhs[cell] && key(cell) == key;
+	}
+
+	/**
+	*	Rebuilds the open list from the inconsistent cells, dropping stale entries.
+	*/
+	private void compact(){
+		open.clear();
+		for(int cell = 0; cell < g.length; cell++)
+			enqueue(cell);
+	}
+
+	/**
+	*	Returns key of a cell, ordering cells by estimated length of a route through them, then by distance from the entrance.
+	*	@param cell index of the cell
+	*	@return Returns key of the cell, or the largest key if it cannot be reached.
+	*/
+	private long key(int cell){
+		int dist = Math.min(g[cell], rhs[cell]);
+		if(dist == INFINITY)
+			return Long.MAX_VALUE;
+		return ((long)(dist + Routes.manhattan(maze, cell, end)) << 32) | dist;
+	}
+
+	/**
+	*	Builds route by walking back from the exit, always to a neighbour one move closer to the entrance.
+	*	@return Returns route of Tile objects from entrance to exit.
+	*/
+	private List<Tile> route(){
+		ArrayList<Tile> route = new ArrayList<Tile>(g[end] + 1);
+		int cell = end;
+		route.add(maze.getTile(cell));
+		while(cell != start){
+			for(Maze.Direction dir : Routes.DIRECTIONS){
+				int next = maze.getAdjacentIndex(cell, dir);
+				if(next != -1 && g[next] == g[cell] - 1 && maze.isNavigable(next)){
+					cell = next;
+					break;
+				}
+			}
+			route.add(maze.getTile(cell));
+		}
+		Collections.reverse(route);
+		return route;
+	}
+}
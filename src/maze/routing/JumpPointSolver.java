@@ -0,0 +1,240 @@
+package maze.routing;
+
+import java.util.*;
+import maze.*;
+
+/** {@link Solver} using Jump Point Search for 4-connected grids, which finds a shortest route.
+* <p>In open areas many shortest routes have the same length and differ only in the order of their moves. This search only follows one of them, going vertically first and turning horizontally afterwards, and only turns vertically again where a wall forces it. Moving vertically, every step scans both ways along its row, and the search only stops at cells where such a scan finds a reason to turn: the exit, or a vertical neighbour which opens up past a wall. Only those jump points enter the open list, so large open rooms are crossed with a handful of expansions instead of one per cell.</p>
+* <p>Jump points are joined by straight moves, so the route is expanded back into every {@link maze.Tile} between them.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+*/
+public class JumpPointSolver implements Solver{
+	/**
+	*	Finds a shortest route from the entrance to the exit of a {@link maze.Maze}.
+	*	@param maze Maze to be solved
+	*	@return Returns route of Tile objects from entrance to exit.
+	*	@throws NoRouteFoundException if the maze does not have a possible solution
+	*/
+	public List<Tile> solve(Maze maze) throws NoRouteFoundException{
+		long allocated = SolveMonitor.allocatedBytes();
+		long start_time = System.nanoTime();
+		Routes.checkSolvable(Solver.Strategy.JUMP_POINT, maze, start_time, allocated);
+		Search search = new Search(maze);
+		int size = maze.getWidth() * maze.getHeight();
+		int start = maze.getTileIndex(maze.getEntrance());
+		int end = maze.getTileIndex(maze.getExit());
+
+		// Distance from entrance and parent jump point of every reached jump point
+		int[] dist = new int[size];
+		Arrays.fill(dist, Integer.MAX_VALUE);
+		int[] parent = new int[size];
+		BitSet closed = new BitSet(size);
+		CellHeap open = new CellHeap(1024);
+		int[] successors = new int[4];
+		long expanded = 0;
+		long reached = 1;
+		int peak = 1;
+
+		dist[start] = 0;
+		parent[start] = start;
+		open.push(Routes.heapKey(Routes.manhattan(maze, start, end), 0), start);
+		while(!open.isEmpty()){
+			int cell = open.pop();
+			// Stale heap entry
+			if(closed.get(cell))
+				continue;
+			if(cell == end){
+				SolveMonitor.publish(Solver.Strategy.JUMP_POINT, maze, SolveResult.Status.FOUND, expanded, 0, peak, reached, start_time, allocated);
+				return search.expand(parent, start);
+			}
+			closed.set(cell);
+			expanded++;
+
+			int nr_successors = search.successors(cell, parent[cell], successors);
+			for(int i = 0; i < nr_successors; i++){
+				int next = successors[i];
+				int nextDist = dist[cell] + search.distance(cell, next);
+				if(nextDist < dist[next]){
+					if(dist[next] == Integer.MAX_VALUE)
+						reached++;
+					dist[next] = nextDist;
+					parent[next] = cell;
+					open.push(Routes.heapKey(nextDist + Routes.manhattan(maze, next, end), nextDist), next);
+				}
+			}
+			peak = Math.max(peak, open.size());
+		}
+
+		// No solution
+		SolveMonitor.publish(Solver.Strategy.JUMP_POINT, maze, SolveResult.Status.NO_ROUTE, expanded, 0, peak, reached, start_time, allocated);
+		throw new NoRouteFoundException();
+	}
+
+	/** Class for the jumps of one search, over the grid of one maze.
+	* @author Andrei Hutu
+	* @version 18th October 2026
+	*/
+	private static class Search{
+		/**
+		*	Maze being solved
+		*/
+		private Maze maze;
+		/**
+		*	Number of columns
+		*/
+		private int width;
+		/**
+		*	Number of cells
+		*/
+		private int size;
+		/**
+		*	Exit cell
+		*/
+		private int end;
+
+		/**
+		*	Constructs new Search.
+		*	@param mazeIn Maze to be solved
+		*/
+		Search(Maze mazeIn){
+			maze = mazeIn;
+			width = maze.getWidth();
+			size = width * maze.getHeight();
+			end = maze.getTileIndex(maze.getExit());
+		}
+
+		/**
+		*	Finds the jump points reached from a jump point, pruning the directions a shorter or preferred route already covers.
+		*	<ul>
+		*		<li>From the entrance, every direction is searched.</li>
+		*		<li>Arriving vertically, the search goes on vertically and scans both ways horizontally.</li>
+		*		<li>Arriving horizontally, the search goes on horizontally and turns vertically only towards forced neighbours.</li>
+		*	</ul>
+		*	@param cell jump point being expanded
+		*	@param from parent jump point, the cell itself for the entrance
+		*	@param successors array receiving the jump points found
+		*	@return Returns number of jump points found.
+		*/
+		int successors(int cell, int from, int[] successors){
+			int x = cell % width;
+			int count = 0;
+			int next;
+			if(from == cell || from % width == x){
+				// Vertical arrival, or the entrance
+				if(from == cell || from > cell){
+					if((next = jumpVertical(cell, x, -width)) != -1)
+						successors[count++] = next;
+				}
+				if(from == cell || from < cell){
+					if((next = jumpVertical(cell, x, width)) != -1)
+						successors[count++] = next;
+				}
+				if((next = jumpHorizontal(cell, x, 1)) != -1)
+					successors[count++] = next;
+				if((next = jumpHorizontal(cell, x, -1)) != -1)
+					successors[count++] = next;
+				return count;
+			}
+
+			// Horizontal arrival
+			int dir = cell > from ? 1 : -1;
+			if((next = jumpHorizontal(cell, x, dir)) != -1)
+				successors[count++] = next;
+			int prev = cell - dir;
+			if(isForced(prev, cell, width) && (next = jumpVertical(cell, x, width)) != -1)
+				successors[count++] = next;
+			if(isForced(prev, cell, -width) && (next = jumpVertical(cell, x, -width)) != -1)
+				successors[count++] = next;
+			return count;
+		}
+
+		/**
+		*	Moves horizontally from a cell until a jump point: the exit, or a cell with a forced neighbour.
+		*	@param cell start cell
+		*	@param x column of the start cell
+		*	@param dir 1 to move east, -1 to move west
+		*	@return Returns jump point found or -1 if a wall or the edge of the maze is reached first.
+		*/
+		private int jumpHorizontal(int cell, int x, int dir){
+			int last_x = dir == 1 ? width - 1 : 0;
+			int prev = cell;
+			while(x != last_x){
+				int next = prev + dir;
+				x += dir;
+				if(!maze.isNavigable(next))
+					return -1;
+				if(next == end || isForced(prev, next, width) || isForced(prev, next, -width))
+					return next;
+				prev = next;
+			}
+			return -1;
+		}
+
+		/**
+		*	Moves vertically from a cell until a jump point: the exit, or a cell from which a horizontal scan finds a jump point.
+		*	@param cell start cell
+		*	@param x column of the start cell
+		*	@param offset width to move north, -width to move south
+		*	@return Returns jump point found or -1 if a wall or the edge of the maze is reached first.
+		*/
+		private int jumpVertical(int cell, int x, int offset){
+			int next = cell + offset;
+			while(next >= 0 && next < size && maze.isNavigable(next)){
+				if(next == end || jumpHorizontal(next, x, 1) != -1 || jumpHorizontal(next, x, -1) != -1)
+					return next;
+				next += offset;
+			}
+			return -1;
+		}
+
+		/**
+		*	Returns if a horizontal move reveals a forced neighbour: a vertical neighbour which is open, while the same neighbour of the previous cell is blocked.
+		*	@param prev cell moved from
+		*	@param next cell moved to, in the same row
+		*	@param offset width to check above, -width to check below
+		*	@return Returns if the neighbour of next is forced.
+		*/
+		private boolean isForced(int prev, int next, int offset){
+			int side = next + offset;
+			if(side < 0 || side >= size || !maze.isNavigable(side))
+				return false;
+			return !maze.isNavigable(prev + offset);
+		}
+
+		/**
+		*	Returns number of moves between two jump points in the same row or column.
+		*	@param from first cell
+		*	@param to second cell
+		*	@return Returns number of straight moves between the cells.
+		*/
+		int distance(int from, int to){
+			int diff = Math.abs(to - from);
+			return from / width == to / width ? diff : diff / width;
+		}
+
+		/**
+		*	Builds route by following parent links back from the exit and filling in the straight moves between jump points.
+		*	@param parent parent jump point of every reached jump point, the entrance being its own parent
+		*	@param start entrance cell
+		*	@return Returns route of Tile objects from entrance to exit.
+		*/
+		List<Tile> expand(int[] parent, int start){
+			int length = 1;
+			for(int cell = end; cell != start; cell = parent[cell])
+				length += distance(parent[cell], cell);
+
+			// Built from the exit backwards
+			List<Tile> route = new ArrayList<Tile>(length);
+			route.add(maze.getTile(end));
+			for(int cell = end; cell != start; cell = parent[cell]){
+				int from = parent[cell];
+				int step = from / width == cell / width ? (cell > from ? 1 : -1) : (cell > from ? width : -width);
+				for(int c = cell - step; c != from - step; c -= step)
+					route.add(maze.getTile(c));
+			}
+			Collections.reverse(route);
+			return route;
+		}
+	}
+}
@@ -0,0 +1,346 @@
+package maze.routing;
+
+import java.util.*;
+import maze.*;
+
+/** Weighted graph of the junctions of a {@link maze.Maze}, with every corridor collapsed into one edge.
+* <p>The nodes are the navigable cells which do not have exactly two navigable neighbours - junctions and dead ends - together with the entrance and the exit. Every run of corridor cells between two nodes becomes an edge weighted by its number of moves, so the graph of a typical maze has a fraction of the cells of its grid. Edges are stored in both directions, grouped by source node.</p>
+* <p>Graphs are cached per maze by {@link #of(maze.Maze)}, and built again once the maze is edited. A graph does not refer to its maze, so a cached graph never keeps its maze alive, and methods which need the maze take it as an argument.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+* @see JunctionSolver
+*/
+public class JunctionGraph{
+	/**
+	*	Wall Tile type as stored in a packed grid
+	*/
+	private static final byte WALL = (byte)Tile.Type.WALL.ordinal();
+	/**
+	*	Entrance Tile type as stored in a packed grid
+	*/
+	private static final byte ENTRANCE = (byte)Tile.Type.ENTRANCE.ordinal();
+	/**
+	*	Exit Tile type as stored in a packed grid
+	*/
+	private static final byte EXIT = (byte)Tile.Type.EXIT.ordinal();
+	/**
+	*	Graphs built by {@link #of(maze.Maze)}, dropped once their maze is no longer used
+	*/
+	private static final Map<Maze, JunctionGraph> CACHE = new WeakHashMap<Maze, JunctionGraph>();
+
+	/**
+	*	Number of columns of the maze
+	*/
+	private int width;
+	/**
+	*	{@link maze.Maze#getModCount()} of the maze when the graph was built
+	*/
+	private int modCount;
+	/**
+	*	Cell of every node, in increasing order
+	*/
+	private int[] nodeCells;
+	/**
+	*	One bit per cell, set if the cell is a node
+	*/
+	private long[] nodeBits;
+	/**
+	*	Number of nodes before every word of {@link #nodeBits}, so nodes are numbered without searching
+	*/
+	private int[] nodeRanks;
+	/**
+	*	Position of the first edge of every node in the edge arrays, followed by the number of edges
+	*/
+	private int[] edgeStart;
+	/**
+	*	Node at the end of every edge
+	*/
+	private int[] edgeTarget;
+	/**
+	*	Number of moves along every edge
+	*/
+	private int[] edgeWeight;
+	/**
+	*	Direction of the first move of every edge, as a position in {@link Routes#DIRECTIONS}
+	*/
+	private byte[] edgeDirection;
+	/**
+	*	Node of the entrance
+	*/
+	private int entrance;
+	/**
+	*	Node of the exit
+	*/
+	private int exit;
+
+	/**
+	*	Builds the junction graph of a maze, in time linear in its number of cells.
+	*	@param maze Maze to be compressed
+	*/
+	public JunctionGraph(Maze maze){
+		width = maze.getWidth();
+		modCount = maze.getModCount();
+		byte[] grid = maze.toGrid();
+
+		// Nodes, in increasing order of cell
+		nodeBits = new long[(grid.length + 63) >>> 6];
+		nodeRanks = new int[nodeBits.length];
+		int nr_nodes = 0;
+		int nr_edges = 0;
+		for(int cell = 0, x = 0; cell < grid.length; cell++, x = x == width - 1 ? 0 : x + 1){
+			byte type = grid[cell];
+			if(type == WALL)
+				continue;
+			int nr_open = degree(grid, cell, x);
+			if(nr_open != 2 || type == ENTRANCE || type == EXIT){
+				nodeBits[cell >>> 6] |= 1L << cell;
+				nr_nodes++;
+				nr_edges += nr_open;
+			}
+		}
+		nodeCells = new int[nr_nodes];
+		int node = 0;
+		for(int word = 0; word < nodeBits.length; word++){
+			nodeRanks[word] = node;
+			for(long bits = nodeBits[word]; bits != 0; bits &= bits - 1)
+				nodeCells[node++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+		}
+		entrance = getNode(maze.getTileIndex(maze.getEntrance()));
+		exit = getNode(maze.getTileIndex(maze.getExit()));
+
+		// Edges, following every corridor from both of its ends
+		edgeStart = new int[nr_nodes + 1];
+		edgeTarget = new int[nr_edges];
+		edgeWeight = new int[nr_edges];
+		edgeDirection = new byte[nr_edges];
+		int edge = 0;
+		for(node = 0; node < nr_nodes; node++){
+			edgeStart[node] = edge;
+			int source = nodeCells[node];
+			int source_x = source % width;
+			for(int dir = 0; dir < 4; dir++){
+				int cell = step(grid, source, source_x, dir);
+				if(cell == -1)
+					continue;
+				int prev = source;
+				int x = source_x + dx(dir);
+				int weight = 1;
+				while(!isNode(cell)){
+					// Corridor cells have exactly one way on
+					for(int next_dir = 0; next_dir < 4; next_dir++){
+						int next = step(grid, cell, x, next_dir);
+						if(next != -1 && next != prev){
+							prev = cell;
+							cell = next;
+							x += dx(next_dir);
+							break;
+						}
+					}
+					weight++;
+				}
+				edgeTarget[edge] = getNode(cell);
+				edgeWeight[edge] = weight;
+				edgeDirection[edge] = (byte)dir;
+				edge++;
+			}
+		}
+		edgeStart[nr_nodes] = edge;
+	}
+
+	/**
+	*	Returns the junction graph of a maze, building it the first time it is asked for and after the maze is edited.
+	*	<p>Graphs are built outside the cache lock, so mazes solved on different threads do not wait for each other.</p>
+	*	@param maze Maze to be compressed
+	*	@return Returns cached JunctionGraph of the maze.
+	*/
+	public static JunctionGraph of(Maze maze){
+		synchronized(CACHE){
+			JunctionGraph graph = CACHE.get(maze);
+			if(graph != null && graph.modCount == maze.getModCount())
+				return graph;
+		}
+		JunctionGraph graph = new JunctionGraph(maze);
+		synchronized(CACHE){
+			JunctionGraph cached = CACHE.get(maze);
+			if(cached != null && cached.modCount == graph.modCount)
+				return cached;
+			CACHE.put(maze, graph);
+			return graph;
+		}
+	}
+
+	/**
+	*	Returns number of nodes.
+	*	@return Returns number of junctions, dead ends, entrance and exit.
+	*/
+	public int getNodeCount(){
+		return nodeCells.length;
+	}
+
+	/**
+	*	Returns number of edges, counting both directions of every corridor.
+	*	@return Returns number of edges.
+	*/
+	public int getEdgeCount(){
+		return edgeTarget.length;
+	}
+
+	/**
+	*	Returns node of the entrance.
+	*	@return Returns node of the entrance.
+	*/
+	public int getEntrance(){
+		return entrance;
+	}
+
+	/**
+	*	Returns node of the exit.
+	*	@return Returns node of the exit.
+	*/
+	public int getExit(){
+		return exit;
+	}
+
+	/**
+	*	Returns cell of a node.
+	*	@param node node of the graph
+	*	@return Returns index of the cell (y * width + x).
+	*/
+	public int getNodeCell(int node){
+		return nodeCells[node];
+	}
+
+	/**
+	*	Returns node at a cell.
+	*	@param cell index of the cell (y * width + x)
+	*	@return Returns node at the cell or -1 if the cell is not a node.
+	*/
+	public int getNode(int cell){
+		if(!isNode(cell))
+			return -1;
+		// Nodes before the cell's word, then before the cell within the word
+		return nodeRanks[cell >>> 6] + Long.bitCount(nodeBits[cell >>> 6] & ((1L << cell) - 1));
+	}
+
+	/**
+	*	Returns if a cell is a node.
+	*	@param cell index of the cell (y * width + x)
+	*	@return Returns if the cell is a junction, dead end, the entrance or the exit.
+	*/
+	public boolean isNode(int cell){
+		return (nodeBits[cell >>> 6] & (1L << cell)) != 0;
+	}
+
+	/**
+	*	Returns first edge of a node.
+	*	@param node node of the graph
+	*	@return Returns first edge leaving the node.
+	*/
+	public int getEdgeStart(int node){
+		return edgeStart[node];
+	}
+
+	/**
+	*	Returns end of the edges of a node.
+	*	@param node node of the graph
+	*	@return Returns edge after the last edge leaving the node.
+	*/
+	public int getEdgeEnd(int node){
+		return edgeStart[node + 1];
+	}
+
+	/**
+	*	Returns node at the end of an edge.
+	*	@param edge edge of the graph
+	*	@return Returns target node of the edge.
+	*/
+	public int getEdgeTarget(int edge){
+		return edgeTarget[edge];
+	}
+
+	/**
+	*	Returns weight of an edge.
+	*	@param edge edge of the graph
+	*	@return Returns number of moves along the edge.
+	*/
+	public int getEdgeWeight(int edge){
+		return edgeWeight[edge];
+	}
+
+	/**
+	*	Adds the cells along an edge to a route, from the cell after its source node to its target node.
+	*	@param maze Maze the graph was built from
+	*	@param node source node of the edge
+	*	@param edge edge of the graph leaving the node
+	*	@param route route to be extended, ending at the source node
+	*/
+	public void expandEdge(Maze maze, int node, int edge, List<Tile> route){
+		int prev = nodeCells[node];
+		int cell = maze.getAdjacentIndex(prev, Routes.DIRECTIONS[edgeDirection[edge]]);
+		route.add(maze.getTile(cell));
+		for(int i = 1; i < edgeWeight[edge]; i++){
+			// Corridor cells have exactly one way on
+			for(Maze.Direction dir : Routes.DIRECTIONS){
+				int next = maze.getAdjacentIndex(cell, dir);
+				if(next != -1 && next != prev && maze.isNavigable(next)){
+					prev = cell;
+					cell = next;
+					break;
+				}
+			}
+			route.add(maze.getTile(cell));
+		}
+	}
+
+	/**
+	*	Returns number of navigable neighbours of a cell of a grid.
+	*	@param grid packed grid of the maze
+	*	@param cell index of the cell
+	*	@param x column of the cell
+	*	@return Returns number of navigable neighbours.
+	*/
+	private int degree(byte[] grid, int cell, int x){
+		int nr_open = 0;
+		for(int dir = 0; dir < 4; dir++){
+			if(step(grid, cell, x, dir) != -1)
+				nr_open++;
+		}
+		return nr_open;
+	}
+
+	/**
+	*	Returns navigable neighbour of a cell of a grid in a given direction.
+	*	<p>Neighbours are found from the column of the cell, rather than with {@link maze.Maze#getAdjacentIndex(int, maze.Maze.Direction)}, to avoid a division per neighbour.</p>
+	*	@param grid packed grid of the maze
+	*	@param cell index of the cell
+	*	@param x column of the cell
+	*	@param dir direction as a position in {@link Routes#DIRECTIONS}
+	*	@return Returns index of the neighbour or -1 if it is outside the maze or a wall.
+	*/
+	private int step(byte[] grid, int cell, int x, int dir){
+		int next;
+		switch(dir){
+			case 0:
+				next = x == width - 1 ? -1 : cell + 1;
+				break;
+			case 1:
+				next = cell - width;
+				break;
+			case 2:
+				next = x == 0 ? -1 : cell - 1;
+				break;
+			default:
+				next = cell + width < grid.length ? cell + width : -1;
+		}
+		return next < 0 || grid[next] == WALL ? -1 : next;
+	}
+
+	/**
+	*	Returns change of column of a move.
+	*	@param dir direction as a position in {@link Routes#DIRECTIONS}
+	*	@return Returns 1 for east, -1 for west and 0 otherwise.
+	*/
+	private static int dx(int dir){
+		return dir == 0 ? 1 : dir == 2 ? -1 : 0;
+	}
+}
@@ -0,0 +1,102 @@
+package maze.routing;
+
+import java.util.*;
+import maze.*;
+
+/** {@link Solver} using A* search on the {@link JunctionGraph} of a maze, which finds a shortest route.
+* <p>The search only visits junctions, dead ends, the entrance and the exit, moving along whole corridors at a time, and the route found is expanded back into every {@link maze.Tile} along the way. An edge is never shorter than the Manhattan distance between its ends, so the Manhattan distance to the exit is still an admissible heuristic. The graph is cached per maze, so later solves of the same maze skip building it.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+*/
+public class JunctionSolver implements Solver{
+	/**
+	*	Finds a shortest route from the entrance to the exit of a {@link maze.Maze}.
+	*	@param maze Maze to be solved
+	*	@return Returns route of Tile objects from entrance to exit.
+	*	@throws NoRouteFoundException if the maze does not have a possible solution
+	*/
+	public List<Tile> solve(Maze maze) throws NoRouteFoundException{
+		long allocated = SolveMonitor.allocatedBytes();
+		long start_time = System.nanoTime();
+		Routes.checkSolvable(Solver.Strategy.JUNCTION_GRAPH, maze, start_time, allocated);
+		JunctionGraph graph = JunctionGraph.of(maze);
+		int start = graph.getEntrance();
+		int end = graph.getExit();
+		int nr_nodes = graph.getNodeCount();
+
+		// Distance from entrance, parent and edge from parent of every reached node
+		int[] dist = new int[nr_nodes];
+		Arrays.fill(dist, Integer.MAX_VALUE);
+		int[] parent = new int[nr_nodes];
+		int[] parentEdge = new int[nr_nodes];
+		BitSet closed = new BitSet(nr_nodes);
+		CellHeap open = new CellHeap(1024);
+		long expanded = 0;
+		long reached = 1;
+		int peak = 1;
+
+		int end_cell = graph.getNodeCell(end);
+		dist[start] = 0;
+		parent[start] = start;
+		open.push(Routes.heapKey(Routes.manhattan(maze, graph.getNodeCell(start), end_cell), 0), start);
+		while(!open.isEmpty()){
+			int node = open.pop();
+			// Stale heap entry
+			if(closed.get(node))
+				continue;
+			if(node == end){
+				SolveMonitor.publish(Solver.Strategy.JUNCTION_GRAPH, maze, SolveResult.Status.FOUND, expanded, 0, peak, reached, start_time, allocated);
+				return expand(maze, graph, parent, parentEdge, start, end);
+			}
+			closed.set(node);
+			expanded++;
+
+			for(int edge = graph.getEdgeStart(node); edge < graph.getEdgeEnd(node); edge++){
+				int next = graph.getEdgeTarget(edge);
+				int nextDist = dist[node] + graph.getEdgeWeight(edge);
+				if(nextDist < dist[next]){
+					if(dist[next] == Integer.MAX_VALUE)
+						reached++;
+					dist[next] = nextDist;
+					parent[next] = node;
+					parentEdge[next] = edge;
+					open.push(Routes.heapKey(nextDist + Routes.manhattan(maze, graph.getNodeCell(next), end_cell), nextDist), next);
+				}
+			}
+			peak = Math.max(peak, open.size());
+		}
+
+		// No solution
+		SolveMonitor.publish(Solver.Strategy.JUNCTION_GRAPH, maze, SolveResult.Status.NO_ROUTE, expanded, 0, peak, reached, start_time, allocated);
+		throw new NoRouteFoundException();
+	}
+
+	/**
+	*	Builds route by following parent links back from the end node and expanding every edge into its cells.
+	*	@param maze Maze the graph was built from
+	*	@param graph junction graph of the maze
+	*	@param parent parent node of every reached node, the start node being its own parent
+	*	@param parentEdge edge from the parent of every reached node
+	*	@param start first node of the route
+	*	@param end last node of the route
+	*	@return Returns route of Tile objects from start to end.
+	*/
+	private static List<Tile> expand(Maze maze, JunctionGraph graph, int[] parent, int[] parentEdge, int start, int end){
+		// Nodes of the route, end first
+		int nr_hops = 0;
+		for(int node = end; parent[node] != node; node = parent[node])
+			nr_hops++;
+		int[] hops = new int[nr_hops];
+		int length = 1;
+		for(int node = end, i = nr_hops - 1; parent[node] != node; node = parent[node], i--){
+			hops[i] = node;
+			length += graph.getEdgeWeight(parentEdge[node]);
+		}
+
+		List<Tile> route = new ArrayList<Tile>(length);
+		route.add(maze.getTile(graph.getNodeCell(start)));
+		for(int hop : hops)
+			graph.expandEdge(maze, parent[hop], parentEdge[hop], route);
+		return route;
+	}
+}
@@ -0,0 +1,356 @@
+package maze.routing;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import maze.*;
+
+/** Router answering many shortest-route queries between any two cells of one {@link maze.Maze}, using A* with landmark heuristics (ALT).
+* <p>Preprocessing runs a breadth-first search from a few landmark cells and keeps the distance of every cell from every landmark. In any maze, the distance between two cells is at least the difference of their distances from a landmark, so the largest such difference, or the Manhattan distance if it is larger, is an admissible heuristic which is much tighter than the Manhattan distance alone once walls force detours. Landmarks are chosen far apart: the first is the cell furthest from the entrance, and every next one the cell furthest from all landmarks chosen so far.</p>
+* <p>Landmarks are chosen in the region of the entrance. Queries in other regions of a maze split by walls are still answered, with the Manhattan distance as heuristic. Queries between cells of different regions are rejected at once by the {@link maze.Maze#getConnectivity() connectivity index}.</p>
+* <p>Queries may run on many threads at once. Each query borrows search arrays from a pool kept by the router, holding as many as queries have ever run at once, and the arrays are stamped with the query they belong to so they never need clearing. The pool belongs to the router, so dropping the router frees it whichever threads queried it. If the maze is edited, the landmarks are computed again before the next query.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+*/
+public class LandmarkRouter{
+	/**
+	*	Number of landmarks used by {@link #LandmarkRouter(maze.Maze)}
+	*/
+	public static final int DEFAULT_LANDMARKS = 8;
+	/**
+	*	Distance of cells which cannot be reached from a landmark
+	*/
+	private static final int UNREACHED = Integer.MAX_VALUE;
+
+	/**
+	*	Maze routed through
+	*/
+	private Maze maze;
+	/**
+	*	Number of landmarks
+	*/
+	private int nr_landmarks;
+	/**
+	*	Landmark distances for the current state of the maze
+	*/
+	private volatile Landmarks landmarks;
+	/**
+	*	Search arrays not in use by a query
+	*/
+	private ConcurrentLinkedQueue<Search> searches;
+
+	/**
+	*	Constructs new LandmarkRouter with {@link #DEFAULT_LANDMARKS} landmarks, preprocessing the maze.
+	*	@param mazeIn Maze to be routed through
+	*/
+	public LandmarkRouter(Maze mazeIn){
+		this(mazeIn, DEFAULT_LANDMARKS);
+	}
+
+	/**
+	*	Constructs new LandmarkRouter, preprocessing the maze.
+	*	@param mazeIn Maze to be routed through
+	*	@param nr_landmarksIn number of landmarks, each costing one breadth-first search and one int per cell
+	*	@throws IllegalArgumentException if the number of landmarks is not positive, or the maze is too large to keep a distance per cell for each landmark or the three ints per cell of a search
+	*/
+	public LandmarkRouter(Maze mazeIn, int nr_landmarksIn){
+		if(nr_landmarksIn < 1)
+			throw new IllegalArgumentException("Number of landmarks must be positive");
+		long size = (long)mazeIn.getWidth() * mazeIn.getHeight();
+		if(size * nr_landmarksIn > Integer.MAX_VALUE - 8)
+			throw new IllegalArgumentException("Too many landmarks for the size of the maze");
+		if(size * 3 > Integer.MAX_VALUE - 8)
+			throw new IllegalArgumentException("Maze too large to search");
+		maze = mazeIn;
+		nr_landmarks = nr_landmarksIn;
+		landmarks = new Landmarks(maze, nr_landmarks);
+		searches = new ConcurrentLinkedQueue<Search>();
+	}
+
+	/**
+	*	Returns landmark cells.
+	*	@return Returns indices of the landmark cells (y * width + x), in the order they were chosen.
+	*/
+	public int[] getLandmarks(){
+		return getCurrent().cells.clone();
+	}
+
+	/**
+	*	Finds a shortest route between two tiles of the maze.
+	*	@param from Coordinate of the first tile of the route
+	*	@param to Coordinate of the last tile of the route
+	*	@return Returns route of Tile objects from the first tile to the last.
+	*	@throws NoRouteFoundException if either tile is a wall or there is no route between them
+	*	@throws IllegalArgumentException if either coordinate is outside the maze
+	*/
+	public List<Tile> route(Maze.Coordinate from, Maze.Coordinate to) throws NoRouteFoundException{
+		int start = getIndex(from);
+		int end = getIndex(to);
+		if(!maze.getConnectivity().isConnected(start, end))
+			throw new NoRouteFoundException();
+		Search search = searches.poll();
+		if(search == null)
+			search = new Search(maze.getWidth() * maze.getHeight());
+		try{
+			return search.run(maze, getCurrent(), start, end);
+		}finally{
+			searches.offer(search);
+		}
+	}
+
+	/**
+	*	Returns landmarks of the current state of the maze, computing them again if the maze was edited.
+	*	@return Returns current Landmarks.
+	*/
+	private Landmarks getCurrent(){
+		Landmarks current = landmarks;
+		if(current.modCount != maze.getModCount()){
+			synchronized(this){
+				current = landmarks;
+				if(current.modCount != maze.getModCount()){
+					current = new Landmarks(maze, nr_landmarks);
+					landmarks = current;
+				}
+			}
+		}
+		return current;
+	}
+
+	/**
+	*	Returns index of the tile at a coordinate.
+	*	@param coord Coordinate of the tile
+	*	@return Returns index of the tile (y * width + x).
+	*	@throws IllegalArgumentException if the coordinate is outside the maze
+	*/
+	private int getIndex(Maze.Coordinate coord){
+		int x = coord.getX();
+		int y = coord.getY();
+		if(x < 0 || x >= maze.getWidth() || y < 0 || y >= maze.getHeight())
+			throw new IllegalArgumentException("Coordinate " + coord + " is outside the maze");
+		return y * maze.getWidth() + x;
+	}
+
+	/**
+	*	Runs a breadth-first search from a cell.
+	*	@param maze Maze to be searched
+	*	@param source index of the cell searched from
+	*	@param dist array receiving the distance of every cell from the source, {@link #UNREACHED} if it cannot be reached
+	*	@param queue array of at least one int per cell, used as the queue
+	*	@return Returns the last cell reached, which is one of the cells furthest from the source.
+	*/
+	private static int breadthFirst(Maze maze, int source, int[] dist, int[] queue){
+		Arrays.fill(dist, UNREACHED);
+		int head = 0;
+		int tail = 0;
+		dist[source] = 0;
+		queue[tail++] = source;
+		while(head < tail){
+			int cell = queue[head++];
+			for(Maze.Direction dir : Routes.DIRECTIONS){
+				int next = maze.getAdjacentIndex(cell, dir);
+				if(next != -1 && dist[next] == UNREACHED && maze.isNavigable(next)){
+					dist[next] = dist[cell] + 1;
+					queue[tail++] = next;
+				}
+			}
+		}
+		return queue[tail - 1];
+	}
+
+	/** Class for the landmarks of one state of a maze and the distances of every cell from them.
+	* @author Andrei Hutu
+	* @version 18th October 2026
+	*/
+	private static class Landmarks{
+		/**
+		*	{@link maze.Maze#getModCount()} of the maze when the landmarks were computed
+		*/
+		private int modCount;
+		/**
+		*	Landmark cells
+		*/
+		private int[] cells;
+		/**
+		*	Distance of every cell from every landmark, the landmarks of a cell being next to each other ([cell * landmarks + landmark])
+		*/
+		private int[] dist;
+
+		/**
+		*	Chooses landmarks far apart and computes the distances of every cell from them.
+		*	@param maze Maze to be preprocessed
+		*	@param nr_landmarks largest number of landmarks, fewer if the region of the entrance has fewer cells
+		*/
+		private Landmarks(Maze maze, int nr_landmarks){
+			modCount = maze.getModCount();
+			int size = maze.getWidth() * maze.getHeight();
+			int[] from = new int[size];
+			int[] queue = new int[size];
+
+			// Smallest distance of every cell from the landmarks so far
+			int[] nearest = new int[size];
+			int next = breadthFirst(maze, maze.getTileIndex(maze.getEntrance()), nearest, queue);
+			int[] chosen = new int[nr_landmarks];
+			int count = 0;
+			dist = new int[size * nr_landmarks];
+			while(count < nr_landmarks && nearest[next] > 0){
+				chosen[count] = next;
+				breadthFirst(maze, next, from, queue);
+				int best = 0;
+				next = -1;
+				for(int cell = 0; cell < size; cell++){
+					dist[cell * nr_landmarks + count] = from[cell];
+					if(from[cell] < nearest[cell])
+						nearest[cell] = from[cell];
+					if(nearest[cell] != UNREACHED && nearest[cell] > best){
+						best = nearest[cell];
+						next = cell;
+					}
+				}
+				count++;
+				if(next == -1)
+					break;
+			}
+
+			// Fewer landmarks than asked for, tightly packed
+			cells = Arrays.copyOf(chosen, count);
+			if(count < nr_landmarks){
+				int[] packed = new int[size * count];
+				for(int cell = 0; cell < size; cell++)
+					System.arraycopy(dist, cell * nr_landmarks, packed, cell * count, count);
+				dist = packed;
+			}
+		}
+	}
+
+	/** Class for the search arrays of one query at a time, reused by later queries.
+	* <p>The state of a cell is kept in one place, so expanding a cell touches as few cache lines as possible, and the column and row of a cell are carried along from its parent rather than divided out.</p>
+	* @author Andrei Hutu
+	* @version 18th October 2026
+	*/
+	private static class Search{
+		/**
+		*	Number of the current query
+		*/
+		private int query;
+		/**
+		*	Three ints per cell: stamp (2 * query once reached by a query, 2 * query + 1 once expanded), distance from the start and parent
+		*/
+		private int[] state;
+		/**
+		*	Distances of the end cell from the landmarks
+		*/
+		private int[] target;
+		/**
+		*	Open list, ordered by estimated length of route through the cell, which never decreases as the heuristic is consistent
+		*/
+		private BucketQueue open;
+
+		/**
+		*	Constructs new Search.
+		*	@param size number of cells of the maze
+		*/
+		private Search(int size){
+			state = new int[3 * size];
+			target = new int[0];
+			open = new BucketQueue(1024);
+		}
+
+		/**
+		*	Finds a shortest route between two connected cells with A*.
+		*	@param maze Maze routed through
+		*	@param current landmarks of the maze
+		*	@param start first cell of the route
+		*	@param end last cell of the route
+		*	@return Returns route of Tile objects from start to end.
+		*	@throws NoRouteFoundException if the search runs out of cells, which only happens if the maze is edited during the query
+		*/
+		private List<Tile> run(Maze maze, Landmarks current, int start, int end) throws NoRouteFoundException{
+			// Wrapping around would make old stamps look current
+			if(++query == Integer.MAX_VALUE / 2){
+				Arrays.fill(state, 0);
+				query = 1;
+			}
+			int reached = 2 * query;
+			int closed = reached + 1;
+			int width = maze.getWidth();
+			int height = maze.getHeight();
+			int end_x = end % width;
+			int end_y = end / width;
+			int count = current.cells.length;
+			if(target.length != count)
+				target = new int[count];
+			System.arraycopy(current.dist, end * count, target, 0, count);
+
+			open.clear();
+			state[3 * start] = reached;
+			state[3 * start + 1] = 0;
+			state[3 * start + 2] = start;
+			open.push(estimate(current, start, Math.abs(start % width - end_x) + Math.abs(start / width - end_y)), start);
+			while(!open.isEmpty()){
+				int cell = open.pop();
+				// Stale entry
+				if(state[3 * cell] == closed)
+					continue;
+				if(cell == end)
+					return route(maze, start, end);
+				state[3 * cell] = closed;
+
+				int x = cell % width;
+				int y = cell / width;
+				int nextDist = state[3 * cell + 1] + 1;
+				for(int dir = 0; dir < 4; dir++){
+					// Directions in the order of Routes.DIRECTIONS: east, south, west, north
+					int next_x = x + (dir == 0 ? 1 : dir == 2 ? -1 : 0);
+					int next_y = y + (dir == 1 ? -1 : dir == 3 ? 1 : 0);
+					if(next_x < 0 || next_x >= width || next_y < 0 || next_y >= height)
+						continue;
+					int next = next_y * width + next_x;
+					int stamp = state[3 * next];
+					if(stamp == closed || !maze.isNavigable(next))
+						continue;
+					if(stamp != reached || nextDist < state[3 * next + 1]){
+						state[3 * next] = reached;
+						state[3 * next + 1] = nextDist;
+						state[3 * next + 2] = cell;
+						int manhattan = Math.abs(next_x - end_x) + Math.abs(next_y - end_y);
+						open.push(nextDist + estimate(current, next, manhattan), next);
+					}
+				}
+			}
+			throw new NoRouteFoundException();
+		}
+
+		/**
+		*	Returns lower bound of the distance between a cell and the end cell, from the landmarks and the Manhattan distance.
+		*	@param current landmarks of the maze
+		*	@param cell index of the cell
+		*	@param manhattan Manhattan distance between the cell and the end cell
+		*	@return Returns lower bound of the number of moves from the cell to the end cell.
+		*/
+		private int estimate(Landmarks current, int cell, int manhattan){
+			int best = manhattan;
+			int count = target.length;
+			int base = cell * count;
+			for(int i = 0; i < count; i++){
+				int diff = Math.abs(current.dist[base + i] - target[i]);
+				if(diff > best)
+					best = diff;
+			}
+			return best;
+		}
+
+		/**
+		*	Builds route by following parent links back from the end cell.
+		*	@param maze Maze routed through
+		*	@param start first cell of the route
+		*	@param end last cell of the route
+		*	@return Returns route of Tile objects from start to end.
+		*/
+		private List<Tile> route(Maze maze, int start, int end){
+			int length = state[3 * end + 1] + 1;
+			Tile[] route = new Tile[length];
+			for(int i = length - 1, cell = end; i >= 0; i--, cell = state[3 * cell + 2])
+				route[i] = maze.getTile(cell);
+			return Arrays.asList(route);
+		}
+	}
+}
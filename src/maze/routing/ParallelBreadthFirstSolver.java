@@ -0,0 +1,292 @@
+package maze.routing;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import maze.*;
+
+/** {@link Solver} using level-synchronous parallel breadth-first search, which finds a shortest route.
+* <p>Every level of the search is split into chunks expanded on a {@link java.util.concurrent.ForkJoinPool}. Cells are claimed in an atomic bitmap, so each cell is reached by exactly one task, and the parent of every reached cell is kept in an {@code int[]} to rebuild the route. Each chunk collects the cells it reached in its own buffer, and the buffers are joined into the next level once all chunks are done.</p>
+* <p>Levels smaller than {@link #PARALLEL_THRESHOLD} are expanded on the calling thread, so long single corridors are not slowed down by handing out tiny tasks. If the pool can only run one task at a time, such as the common pool on a single processor, every level is expanded on the calling thread and cells are claimed without atomic updates.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+*/
+public class ParallelBreadthFirstSolver implements Solver{
+	/**
+	*	Smallest level expanded in parallel
+	*/
+	public static final int PARALLEL_THRESHOLD = 4096;
+	/**
+	*	Number of cells of a level expanded by one task
+	*/
+	private static final int CHUNK_SIZE = 1024;
+
+	/**
+	*	Pool the levels are expanded on
+	*/
+	private ForkJoinPool pool;
+
+	/**
+	*	Constructs new ParallelBreadthFirstSolver using the common pool.
+	*/
+	public ParallelBreadthFirstSolver(){
+		this(ForkJoinPool.commonPool());
+	}
+
+	/**
+	*	Constructs new ParallelBreadthFirstSolver.
+	*	@param poolIn pool the levels are expanded on
+	*/
+	public ParallelBreadthFirstSolver(ForkJoinPool poolIn){
+		pool = poolIn;
+	}
+
+	/**
+	*	Finds a shortest route from the entrance to the exit of a {@link maze.Maze}.
+	*	@param maze Maze to be solved
+	*	@return Returns route of Tile objects from entrance to exit.
+	*	@throws NoRouteFoundException if the maze does not have a possible solution
+	*/
+	public List<Tile> solve(Maze maze) throws NoRouteFoundException{
+		long allocated = SolveMonitor.allocatedBytes();
+		long start_time = System.nanoTime();
+		Routes.checkSolvable(Solver.Strategy.PARALLEL_BREADTH_FIRST, maze, start_time, allocated);
+		int start = maze.getTileIndex(maze.getEntrance());
+		int end = maze.getTileIndex(maze.getExit());
+
+		// Common pool callers help run its tasks
+		boolean concurrent = pool == ForkJoinPool.commonPool() ? Runtime.getRuntime().availableProcessors() > 1 : pool.getParallelism() > 1;
+		Search search = new Search(maze, end, concurrent);
+		search.claim(start);
+		search.parent[start] = start;
+		int[] frontier = {start};
+		int size = 1;
+		long expanded = 0;
+		long reached = 1;
+		int peak = 1;
+		while(size > 0 && !search.found){
+			expanded += size;
+			int nr_chunks = 1;
+			if(!concurrent || size < PARALLEL_THRESHOLD){
+				search.expand(frontier, 0, size, 0);
+			}else{
+				nr_chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+				search.ensureChunks(nr_chunks);
+				pool.invoke(new ExpandTask(search, frontier, size, 0, nr_chunks));
+			}
+			frontier = search.collect(frontier, nr_chunks);
+			size = search.collected;
+			reached += size;
+			peak = Math.max(peak, size);
+		}
+
+		if(!search.found){
+			SolveMonitor.publish(Solver.Strategy.PARALLEL_BREADTH_FIRST, maze, SolveResult.Status.NO_ROUTE, expanded, 0, peak, reached, start_time, allocated);
+			throw new NoRouteFoundException();
+		}
+		SolveMonitor.publish(Solver.Strategy.PARALLEL_BREADTH_FIRST, maze, SolveResult.Status.FOUND, expanded, 0, peak, reached, start_time, allocated);
+		return Routes.fromParents(maze, search.parent, end);
+	}
+
+	/** Class for the state shared by the tasks of one search.
+	* @author Andrei Hutu
+	* @version 18th October 2026
+	*/
+	private static class Search{
+		/**
+		*	Maze searched
+		*/
+		private Maze maze;
+		/**
+		*	Exit cell
+		*/
+		private int end;
+		/**
+		*	Parent of every reached cell, written only by the task which claimed the cell
+		*/
+		private int[] parent;
+		/**
+		*	One bit per cell, set once the cell is reached
+		*/
+		private AtomicLongArray visited;
+		/**
+		*	Are chunks expanded at the same time, so cells must be claimed atomically?
+		*/
+		private boolean concurrent;
+		/**
+		*	Cells reached by every chunk of the current level, reused between levels
+		*/
+		private int[][] buffers = new int[1][16];
+		/**
+		*	Number of cells in every buffer
+		*/
+		private int[] counts = new int[1];
+		/**
+		*	Number of cells in the last collected level
+		*/
+		private int collected;
+		/**
+		*	Was the exit reached?
+		*/
+		private volatile boolean found;
+
+		/**
+		*	Constructs new Search.
+		*	@param mazeIn Maze searched
+		*	@param endIn exit cell
+		*	@param concurrentIn are chunks expanded at the same time
+		*/
+		Search(Maze mazeIn, int endIn, boolean concurrentIn){
+			maze = mazeIn;
+			end = endIn;
+			concurrent = concurrentIn;
+			int nr_cells = maze.getWidth() * maze.getHeight();
+			parent = new int[nr_cells];
+			visited = new AtomicLongArray((nr_cells + 63) >>> 6);
+		}
+
+		/**
+		*	Makes room for the buffers of a level split into a number of chunks.
+		*	@param nr_chunks number of chunks
+		*/
+		void ensureChunks(int nr_chunks){
+			if(buffers.length >= nr_chunks)
+				return;
+			int old_length = buffers.length;
+			buffers = Arrays.copyOf(buffers, nr_chunks);
+			counts = Arrays.copyOf(counts, nr_chunks);
+			for(int i = old_length; i < nr_chunks; i++)
+				buffers[i] = new int[16];
+		}
+
+		/**
+		*	Claims a cell in the visited bitmap.
+		*	@param cell cell to be claimed
+		*	@return Returns true if this call claimed the cell, false if it was already reached.
+		*/
+		boolean claim(int cell){
+			int word = cell >>> 6;
+			long bit = 1L << cell;
+			if(!concurrent){
+				long bits = visited.getPlain(word);
+				visited.setPlain(word, bits | bit);
+				return (bits & bit) == 0;
+			}
+			while(true){
+				long bits = visited.get(word);
+				if((bits & bit) != 0)
+					return false;
+				if(visited.compareAndSet(word, bits, bits | bit))
+					return true;
+			}
+		}
+
+		/**
+		*	Expands part of a level into the buffer of one chunk.
+		*	@param frontier cells of the level
+		*	@param from index of the first cell to be expanded
+		*	@param to index after the last cell to be expanded
+		*	@param chunk chunk whose buffer receives the reached cells
+		*/
+		void expand(int[] frontier, int from, int to, int chunk){
+			int[] buffer = buffers[chunk];
+			// Every cell reaches at most 3 new cells, so one resize is enough
+			if(buffer.length < 3 * (to - from))
+				buffer = new int[3 * (to - from) + 1];
+			int count = 0;
+			for(int i = from; i < to; i++){
+				int cell = frontier[i];
+				for(Maze.Direction dir : Routes.DIRECTIONS){
+					int next = maze.getAdjacentIndex(cell, dir);
+					if(next == -1 || !maze.isNavigable(next) || !claim(next))
+						continue;
+					parent[next] = cell;
+					buffer[count++] = next;
+					if(next == end)
+						found = true;
+				}
+			}
+			buffers[chunk] = buffer;
+			counts[chunk] = count;
+		}
+
+		/**
+		*	Joins the buffers of the expanded chunks into the next level.
+		*	@param old_frontier cells of the expanded level, reused if large enough
+		*	@param nr_chunks number of chunks the level was split into
+		*	@return Returns cells of the next level, their number being stored in {@link #collected}.
+		*/
+		int[] collect(int[] old_frontier, int nr_chunks){
+			int total = 0;
+			for(int i = 0; i < nr_chunks; i++)
+				total += counts[i];
+			int[] next = old_frontier.length >= total ? old_frontier : new int[Math.max(total, old_frontier.length * 2)];
+			int pos = 0;
+			for(int i = 0; i < nr_chunks; i++){
+				System.arraycopy(buffers[i], 0, next, pos, counts[i]);
+				pos += counts[i];
+			}
+			collected = total;
+			return next;
+		}
+	}
+
+	/** Class for the task expanding a range of chunks of one level, split in halves until one chunk is left.
+	* @author Andrei Hutu
+	* @version 18th October 2026
+	*/
+	private static class ExpandTask extends RecursiveAction{
+		/**
+		*	Serialisation version, tasks are never serialised
+		*/
+		private static final long serialVersionUID = 1L;
+		/**
+		*	Search the level belongs to
+		*/
+		private Search search;
+		/**
+		*	Cells of the level
+		*/
+		private int[] frontier;
+		/**
+		*	Number of cells of the level
+		*/
+		private int size;
+		/**
+		*	First chunk expanded by this task
+		*/
+		private int from;
+		/**
+		*	Chunk after the last chunk expanded by this task
+		*/
+		private int to;
+
+		/**
+		*	Constructs new ExpandTask.
+		*	@param searchIn search the level belongs to
+		*	@param frontierIn cells of the level
+		*	@param sizeIn number of cells of the level
+		*	@param fromIn first chunk to be expanded
+		*	@param toIn chunk after the last chunk to be expanded
+		*/
+		ExpandTask(Search searchIn, int[] frontierIn, int sizeIn, int fromIn, int toIn){
+			search = searchIn;
+			frontier = frontierIn;
+			size = sizeIn;
+			from = fromIn;
+			to = toIn;
+		}
+
+		/**
+		*	Expands the chunks, forking half of them.
+		*/
+		protected void compute(){
+			if(to - from == 1){
+				search.expand(frontier, from * CHUNK_SIZE, Math.min(size, (from + 1) * CHUNK_SIZE), from);
+				return;
+			}
+			int mid = (from + to) >>> 1;
+			invokeAll(new ExpandTask(search, frontier, size, from, mid), new ExpandTask(search, frontier, size, mid, to));
+		}
+	}
+}
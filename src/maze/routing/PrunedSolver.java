@@ -0,0 +1,39 @@
+package maze.routing;
+
+import java.util.*;
+import maze.*;
+
+/** {@link Solver} which fills the dead ends of a {@link maze.Maze} with {@link DeadEndFiller} and then runs another solver on the pruned maze.
+* <p>The route found is mapped back to the {@link maze.Tile} objects of the original maze, so it has the same shape as the route of the wrapped solver. Dead ends are never on a route, so shortest-route solvers still find a shortest route.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+*/
+public class PrunedSolver implements Solver{
+	/**
+	*	Solver run on the pruned maze
+	*/
+	private Solver solver;
+
+	/**
+	*	Constructs new PrunedSolver.
+	*	@param solverIn solver run on the pruned maze
+	*/
+	public PrunedSolver(Solver solverIn){
+		solver = solverIn;
+	}
+
+	/**
+	*	Finds a route from the entrance to the exit of a {@link maze.Maze}, after filling its dead ends.
+	*	@param maze Maze to be solved
+	*	@return Returns route of Tile objects of the original maze from entrance to exit.
+	*	@throws NoRouteFoundException if the maze does not have a possible solution
+	*/
+	public List<Tile> solve(Maze maze) throws NoRouteFoundException{
+		Maze pruned = DeadEndFiller.fill(maze);
+		List<Tile> route = solver.solve(pruned);
+		List<Tile> original = new ArrayList<Tile>(route.size());
+		for(Tile tile : route)
+			original.add(maze.getTile(pruned.getTileIndex(tile)));
+		return original;
+	}
+}
@@ -0,0 +1,377 @@
+package maze.routing;
+
+import java.util.*;
+import maze.*;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/** Cache of solved routes, keyed by the {@link maze.Maze#getContentHash() content hash} of the maze and the name of the solver.
+* <p>Routes are kept as their moves from the entrance, 2 bits per move, in a least recently used map bounded by the number of bytes it holds. With a directory, every route is also written there, one file per maze, and routes evicted from memory or cached by an earlier run are read back from it.</p>
+* <p>A cached route is replayed move by move on the maze it is asked for, so it is always returned as {@link maze.Tile} objects of that maze. A route which does not lead from its entrance to its exit, or a cached lack of route for a maze whose entrance and exit are connected, from a stale file or a hash collision, is treated as a miss.</p>
+* <p>Safe to use from many threads at once. Files are written under a temporary name and then moved into place, so a partly written file is never read.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+* @see CachedSolver
+*/
+public class RouteCache{
+	/**
+	*	Magic bytes at the start of every cache file
+	*/
+	private static final byte[] MAGIC = {'M', 'Z', 'R', 'C'};
+	/**
+	*	Current file format version
+	*/
+	private static final int VERSION = 1;
+	/**
+	*	Estimated bytes used by a cached route besides its moves
+	*/
+	private static final int ENTRY_OVERHEAD = 96;
+
+	/**
+	*	Largest number of bytes of routes kept in memory
+	*/
+	private long maxBytes;
+	/**
+	*	Directory of the on-disk tier, null if there is none
+	*/
+	private Path directory;
+	/**
+	*	Cached routes, least recently used first
+	*/
+	private LinkedHashMap<Key, byte[]> routes;
+	/**
+	*	Number of bytes of routes kept in memory
+	*/
+	private long bytes;
+	/**
+	*	Number of lookups answered from memory or disk
+	*/
+	private long hits;
+	/**
+	*	Number of lookups which found nothing
+	*/
+	private long misses;
+
+	/**
+	*	Constructs new RouteCache kept in memory only.
+	*	@param maxBytesIn largest number of bytes of routes kept in memory
+	*/
+	public RouteCache(long maxBytesIn){
+		this(maxBytesIn, null);
+	}
+
+	/**
+	*	Constructs new RouteCache backed by a directory.
+	*	@param maxBytesIn largest number of bytes of routes kept in memory
+	*	@param directoryIn directory the routes are also written to, created if needed, or null to keep them in memory only
+	*/
+	public RouteCache(long maxBytesIn, Path directoryIn){
+		maxBytes = maxBytesIn;
+		directory = directoryIn;
+		routes = new LinkedHashMap<Key, byte[]>(16, 0.75f, true);
+	}
+
+	/**
+	*	Returns cached route of a maze.
+	*	@param maze Maze to be looked up
+	*	@param solver name of the solver which found the route
+	*	@return Returns route of Tile objects of the maze from entrance to exit, an empty route if the maze is known to have no solution, or null if it is not cached.
+	*/
+	public List<Tile> get(Maze maze, String solver){
+		Key key = new Key(maze, solver);
+		byte[] moves;
+		synchronized(this){
+			moves = routes.get(key);
+		}
+		if(moves == null && directory != null){
+			moves = read(key);
+			if(moves != null)
+				store(key, moves);
+		}
+		List<Tile> route = moves == null ? null : replay(maze, moves);
+		synchronized(this){
+			if(route == null)
+				misses++;
+			else
+				hits++;
+		}
+		return route;
+	}
+
+	/**
+	*	Adds the route of a maze to the cache.
+	*	@param maze Maze the route belongs to
+	*	@param solver name of the solver which found the route
+	*	@param route route of Tile objects from entrance to exit, or an empty route if the maze has no solution
+	*	@throws IllegalArgumentException if the route is not a route through the maze
+	*/
+	public void put(Maze maze, String solver, List<Tile> route){
+		Key key = new Key(maze, solver);
+		byte[] moves = encode(maze, route);
+		store(key, moves);
+		if(directory != null){
+			try{
+				write(key, moves);
+			}catch(IOException err){
+				// Only the disk tier is lost, the route is still cached in memory
+			}
+		}
+	}
+
+	/**
+	*	Returns number of lookups answered from the cache.
+	*	@return Returns number of hits.
+	*/
+	public synchronized long getHits(){
+		return hits;
+	}
+
+	/**
+	*	Returns number of lookups which found nothing.
+	*	@return Returns number of misses.
+	*/
+	public synchronized long getMisses(){
+		return misses;
+	}
+
+	/**
+	*	Returns number of routes kept in memory.
+	*	@return Returns number of routes kept in memory.
+	*/
+	public synchronized int size(){
+		return routes.size();
+	}
+
+	/**
+	*	Keeps moves in memory, evicting the least recently used routes until they fit.
+	*	@param key key of the route
+	*	@param moves packed moves of the route
+	*/
+	private synchronized void store(Key key, byte[] moves){
+		byte[] old = routes.put(key, moves);
+		if(old != null)
+			bytes -= old.length + ENTRY_OVERHEAD;
+		bytes += moves.length + ENTRY_OVERHEAD;
+		Iterator<byte[]> eldest = routes.values().iterator();
+		while(bytes > maxBytes && eldest.hasNext()){
+			bytes -= eldest.next().length + ENTRY_OVERHEAD;
+			eldest.remove();
+		}
+	}
+
+	/**
+	*	Packs a route into its moves from the entrance, 4 moves per byte.
+	*	<p>The first 4 bytes hold the number of moves, -1 for a maze with no solution.</p>
+	*	@param maze Maze the route belongs to
+	*	@param route route of Tile objects from entrance to exit, or an empty route
+	*	@return Returns packed moves of the route.
+	*/
+	private static byte[] encode(Maze maze, List<Tile> route){
+		int nr_moves = route.size() - 1;
+		byte[] moves = new byte[4 + (Math.max(nr_moves, 0) + 3) / 4];
+		putInt(moves, nr_moves);
+		int prev = -1;
+		for(int i = 0; i < route.size(); i++){
+			int cell = maze.getTileIndex(route.get(i));
+			if(cell == -1)
+				throw new IllegalArgumentException("Route is not in the maze");
+			if(i > 0)
+				moves[4 + (i - 1) / 4] |= direction(maze, prev, cell) << (2 * ((i - 1) % 4));
+			prev = cell;
+		}
+		return moves;
+	}
+
+	/**
+	*	Replays packed moves from the entrance of a maze.
+	*	@param maze Maze to be walked through
+	*	@param moves packed moves of a route
+	*	@return Returns route of Tile objects from entrance to exit, an empty route for a maze with no solution, or null if the moves do not lead to the exit or the maze cached as having no solution has one.
+	*/
+	private static List<Tile> replay(Maze maze, byte[] moves){
+		int nr_moves = getInt(moves);
+		// No route cached, confirmed by the connectivity index of this maze
+		if(nr_moves < 0)
+			return maze.isSolvable() ? null : Collections.<Tile>emptyList();
+		if(moves.length != 4 + (nr_moves + 3) / 4)
+			return null;
+
+		List<Tile> route = new ArrayList<Tile>(nr_moves + 1);
+		int cell = maze.getTileIndex(maze.getEntrance());
+		route.add(maze.getTile(cell));
+		for(int i = 0; i < nr_moves; i++){
+			int dir = (moves[4 + i / 4] >> (2 * (i % 4))) & 3;
+			cell = maze.getAdjacentIndex(cell, Routes.DIRECTIONS[dir]);
+			if(cell == -1 || !maze.isNavigable(cell))
+				return null;
+			route.add(maze.getTile(cell));
+		}
+		return maze.getType(cell) == Tile.Type.EXIT ? route : null;
+	}
+
+	/**
+	*	Returns position in {@link Routes#DIRECTIONS} of the move between two adjacent cells.
+	*	@param maze Maze the cells belong to
+	*	@param from index of starting cell
+	*	@param to index of adjacent cell
+	*	@return Returns position of the direction of the move.
+	*	@throws IllegalArgumentException if the cells are not adjacent
+	*/
+	private static int direction(Maze maze, int from, int to){
+		for(int dir = 0; dir < 4; dir++){
+			if(maze.getAdjacentIndex(from, Routes.DIRECTIONS[dir]) == to)
+				return dir;
+		}
+		throw new IllegalArgumentException("Route cells are not adjacent");
+	}
+
+	/**
+	*	Reads the moves of a route from the directory.
+	*	@param key key of the route
+	*	@return Returns packed moves of the route, or null if there is no valid file for it.
+	*/
+	private byte[] read(Key key){
+		Path path = directory.resolve(key.getFileName());
+		if(!Files.isRegularFile(path))
+			return null;
+		try(DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))){
+			for(byte b : MAGIC){
+				if(in.readByte() != b)
+					return null;
+			}
+			if(in.readByte() != VERSION || !in.readUTF().equals(key.solver) || in.readLong() != key.hash || in.readInt() != key.width || in.readInt() != key.height)
+				return null;
+			int length = in.readInt();
+			if(length < 4 || length > 4 + ((long)key.width * key.height + 3) / 4)
+				return null;
+			byte[] moves = new byte[length];
+			in.readFully(moves);
+			return moves;
+		}catch(IOException err){
+			// Unreadable file, solved again and rewritten
+			return null;
+		}
+	}
+
+	/**
+	*	Writes the moves of a route to the directory, replacing any older file for the same maze.
+	*	@param key key of the route
+	*	@param moves packed moves of the route
+	*	@throws java.io.IOException if an I/O error occurs while writing
+	*/
+	private void write(Key key, byte[] moves) throws IOException{
+		Files.createDirectories(directory);
+		Path temp = Files.createTempFile(directory, key.getFileName(), ".tmp");
+		try{
+			try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))){
+				out.write(MAGIC);
+				out.writeByte(VERSION);
+				out.writeUTF(key.solver);
+				out.writeLong(key.hash);
+				out.writeInt(key.width);
+				out.writeInt(key.height);
+				out.writeInt(moves.length);
+				out.write(moves);
+			}
+			try{
+				Files.move(temp, directory.resolve(key.getFileName()), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}catch(AtomicMoveNotSupportedException err){
+				Files.move(temp, directory.resolve(key.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+			}
+		}finally{
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	*	Stores an int in the first 4 bytes of an array.
+	*	@param bytes array to be written
+	*	@param value value to be stored
+	*/
+	private static void putInt(byte[] bytes, int value){
+		for(int i = 0; i < 4; i++)
+			bytes[i] = (byte)(value >>> (8 * i));
+	}
+
+	/**
+	*	Returns the int stored in the first 4 bytes of an array.
+	*	@param bytes array to be read
+	*	@return Returns value stored.
+	*/
+	private static int getInt(byte[] bytes){
+		int value = 0;
+		for(int i = 0; i < 4; i++)
+			value |= (bytes[i] & 0xff) << (8 * i);
+		return value;
+	}
+
+	/** Class for the keys of cached routes.
+	* @author Andrei Hutu
+	* @version 18th October 2026
+	*/
+	private static class Key{
+		/**
+		*	Content hash of the maze
+		*/
+		private long hash;
+		/**
+		*	Number of columns of the maze
+		*/
+		private int width;
+		/**
+		*	Number of rows of the maze
+		*/
+		private int height;
+		/**
+		*	Name of the solver which found the route
+		*/
+		private String solver;
+
+		/**
+		*	Constructs new Key for a maze.
+		*	@param maze Maze the route belongs to
+		*	@param solverIn name of the solver which found the route
+		*/
+		private Key(Maze maze, String solverIn){
+			hash = maze.getContentHash();
+			width = maze.getWidth();
+			height = maze.getHeight();
+			solver = solverIn;
+		}
+
+		/**
+		*	Returns name of the cache file of the route.
+		*	@return Returns file name made of the solver name, size and hash.
+		*/
+		private String getFileName(){
+			return solver.replaceAll("[^A-Za-z0-9_-]", "_") + "-" + width + "x" + height + "-" + String.format("%016x", hash) + ".route";
+		}
+
+		/**
+		*	Returns if another object is a Key for the same maze and solver.
+		*	@param other object to be compared
+		*	@return Returns if the keys are equal.
+		*/
+		public boolean equals(Object other){
+			if(!(other instanceof Key))
+				return false;
+			Key key = (Key)other;
+			return hash == key.hash && width == key.width && height == key.height && solver.equals(key.solver);
+		}
+
+		/**
+		*	Returns hash code of the key.
+		*	@return Returns hash code of the key.
+		*/
+		public int hashCode(){
+			return Long.hashCode(hash) * 31 + solver.hashCode();
+		}
+	}
+}
@@ -0,0 +1,360 @@
+package maze.routing;
+
+import java.util.*;
+import maze.*;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/** Compact binary file format for saving and loading {@link RouteFinder} objects.
+* <p>Version 1 layout, all integers being unsigned varints (7 bits per byte, least significant first):</p>
+* <ul>
+*	<li>magic bytes "MZRT" and format version byte</li>
+*	<li>width and height of the {@link maze.Maze}</li>
+*	<li>grid of Tile types, 2 bits per cell, 4 cells per byte, in index order</li>
+*	<li>flags byte: bit 0 - started, bit 1 - finished</li>
+*	<li>total number of steps and number of cells in the route</li>
+*	<li>moves from the entrance along the route, run-length encoded as (run length &lt;&lt; 2 | direction)</li>
+*	<li>next direction to be tried from the last cell of the route, as one byte</li>
+* </ul>
+* <p>Visited cells are not stored: in the backtracking search they are exactly the cells on the route.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+* @see RouteFinder#save(String)
+* @see RouteFinder#load(String)
+*/
+class RouteCheckpoint{
+	/**
+	*	Magic bytes at the start of every checkpoint file
+	*/
+	private static final byte[] MAGIC = {'M', 'Z', 'R', 'T'};
+	/**
+	*	Current format version
+	*/
+	private static final int VERSION = 1;
+	/**
+	*	Size of the I/O buffer
+	*/
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/**
+	*	Not instantiable.
+	*/
+	private RouteCheckpoint(){}
+
+	/**
+	*	Save RouteFinder object to file.
+	*	@param rf RouteFinder object
+	*	@param path Path to file
+	*	@throws java.io.FileNotFoundException if the file exists but is a directory rather than a regular file, does not exist but cannot be created, or cannot be opened for any other reason
+	*	@throws java.io.IOException if an I/O error occurs while writing
+	*/
+	static void write(RouteFinder rf, String path) throws FileNotFoundException, IOException{
+		Maze maze = rf.getMaze();
+		int size = maze.getWidth() * maze.getHeight();
+
+		try(Output out = new Output(new FileOutputStream(path).getChannel())){
+			out.put(MAGIC);
+			out.put(VERSION);
+			out.putVarint(maze.getWidth());
+			out.putVarint(maze.getHeight());
+
+			// Grid, 4 cells per byte
+			for(int i=0; i<size; i+=4){
+				int packed = 0;
+				for(int j=0; j<4 && i + j < size; j++)
+					packed |= maze.getType(i + j).ordinal() << (2 * j);
+				out.put(packed);
+			}
+
+			out.put((rf.isStarted() ? 1 : 0) | (rf.isFinished() ? 2 : 0));
+			out.putVarint(rf.getSteps());
+			int depth = rf.getRouteLength();
+			out.putVarint(depth);
+
+			// Moves along the route, run-length encoded
+			int run_dir = -1;
+			int run_len = 0;
+			for(int i=1; i<depth; i++){
+				int dir = direction(maze, rf.getRouteIndex(i - 1), rf.getRouteIndex(i));
+				if(dir != run_dir && run_len > 0){
+					out.putVarint(((long)run_len << 2) | run_dir);
+					run_len = 0;
+				}
+				run_dir = dir;
+				run_len++;
+			}
+			if(run_len > 0)
+				out.putVarint(((long)run_len << 2) | run_dir);
+
+			if(depth > 0)
+				out.put(rf.getNextDirection());
+		}
+	}
+
+	/**
+	*	Load RouteFinder object from file.
+	*	@param path Path to file
+	*	@return Returns RouteFinder object from file.
+	*	@throws java.io.FileNotFoundException if the file does not exist, is a directory rather than a regular file, or for some other reason cannot be opened for reading
+	*	@throws java.io.IOException if an I/O error occurs while reading or the file is not a valid route file
+	*/
+	static RouteFinder read(String path) throws FileNotFoundException, IOException{
+		try(Input in = new Input(new FileInputStream(path).getChannel())){
+			for(byte b : MAGIC){
+				if(in.get() != b)
+					throw new IOException("Not a route file");
+			}
+			int version = in.get();
+			if(version != VERSION)
+				throw new IOException("Unsupported route file version " + version);
+
+			long width = in.getVarint();
+			long height = in.getVarint();
+			// Checked apart first, so the product cannot overflow
+			if(width > Integer.MAX_VALUE || height > Integer.MAX_VALUE || width * height > Integer.MAX_VALUE)
+				throw new IOException("Maze too large");
+			int size = (int)(width * height);
+			// Grid must be in the file before it is allocated
+			if((size + 3L) / 4 > in.remaining())
+				throw new IOException("Route file is truncated");
+
+			// Grid, 4 cells per byte
+			byte[] grid = new byte[size];
+			for(int i=0; i<size; i+=4){
+				int packed = in.get();
+				for(int j=0; j<4 && i + j < size; j++)
+					grid[i + j] = (byte)((packed >> (2 * j)) & 3);
+			}
+			Maze maze;
+			try{
+				maze = Maze.fromGrid((int)width, (int)height, grid);
+			}catch(InvalidMazeException e){
+				throw new IOException("Invalid maze in route file", e);
+			}
+
+			int flags = in.get();
+			long steps = in.getVarint();
+			long depth = in.getVarint();
+			if(depth > size)
+				throw new IOException("Invalid route in route file");
+
+			// Replay moves from the entrance
+			int[] route = new int[Math.max((int)depth, 1)];
+			byte[] directions = new byte[route.length];
+			BitSet visited = new BitSet(size);
+			if(depth > 0){
+				route[0] = maze.getTileIndex(maze.getEntrance());
+				visited.set(route[0]);
+			}
+			int i = 1;
+			while(i < depth){
+				long run = in.getVarint();
+				int dir = (int)(run & 3);
+				long run_len = run >>> 2;
+				if(run_len == 0 || run_len > depth - i)
+					throw new IOException("Invalid route in route file");
+				for(long k=0; k<run_len; k++, i++){
+					int cell = maze.getAdjacentIndex(route[i - 1], Routes.DIRECTIONS[dir]);
+					if(cell == -1 || !maze.isNavigable(cell) || visited.get(cell))
+						throw new IOException("Invalid route in route file");
+					directions[i - 1] = (byte)(dir + 1);
+					route[i] = cell;
+					visited.set(cell);
+				}
+			}
+			if(depth > 0){
+				int next = in.get();
+				if(next > 4)
+					throw new IOException("Invalid route in route file");
+				directions[(int)depth - 1] = (byte)next;
+			}
+
+			// Flags must agree with the route: only a started search has one, and it is finished exactly when it reached the exit
+			boolean started = (flags & 1) != 0;
+			boolean finished = (flags & 2) != 0;
+			if(!started && depth > 0)
+				throw new IOException("Invalid route in route file");
+			if(finished != (depth > 0 && route[(int)depth - 1] == maze.getTileIndex(maze.getExit())))
+				throw new IOException("Invalid route in route file");
+
+			RouteFinder rf = new RouteFinder(maze);
+			rf.restore(route, directions, (int)depth, visited, steps, started, finished);
+			return rf;
+		}
+	}
+
+	/**
+	*	Returns position in {@link Routes#DIRECTIONS} of the move between two adjacent cells.
+	*	@param maze Maze the cells belong to
+	*	@param from index of starting cell
+	*	@param to index of adjacent cell
+	*	@return Returns position of the direction of the move.
+	*/
+	private static int direction(Maze maze, int from, int to){
+		for(int dir=0; dir<4; dir++){
+			if(maze.getAdjacentIndex(from, Routes.DIRECTIONS[dir]) == to)
+				return dir;
+		}
+		throw new IllegalStateException("Route cells are not adjacent");
+	}
+
+	/** Buffered writer over a {@link java.nio.channels.FileChannel}.
+	* @author Andrei Hutu
+	* @version 18th October 2026
+	*/
+	private static class Output implements AutoCloseable{
+		/**
+		*	Channel written to
+		*/
+		private FileChannel channel;
+		/**
+		*	Bytes not written to the channel yet
+		*/
+		private ByteBuffer buffer;
+
+		/**
+		*	Constructs new Output over a channel.
+		*	@param channelIn channel to write to
+		*/
+		private Output(FileChannel channelIn){
+			channel = channelIn;
+			buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		}
+
+		/**
+		*	Write one byte.
+		*	@param b byte value (lowest 8 bits)
+		*	@throws java.io.IOException if an I/O error occurs
+		*/
+		private void put(int b) throws IOException{
+			if(!buffer.hasRemaining())
+				flush();
+			buffer.put((byte)b);
+		}
+
+		/**
+		*	Write bytes.
+		*	@param bytes bytes to write
+		*	@throws java.io.IOException if an I/O error occurs
+		*/
+		private void put(byte[] bytes) throws IOException{
+			for(byte b : bytes)
+				put(b);
+		}
+
+		/**
+		*	Write unsigned varint.
+		*	@param value non-negative value
+		*	@throws java.io.IOException if an I/O error occurs
+		*/
+		private void putVarint(long value) throws IOException{
+			while((value & ~0x7fL) != 0){
+				put((int)((value & 0x7f) | 0x80));
+				value >>>= 7;
+			}
+			put((int)value);
+		}
+
+		/**
+		*	Write buffered bytes to the channel.
+		*	@throws java.io.IOException if an I/O error occurs
+		*/
+		private void flush() throws IOException{
+			buffer.flip();
+			while(buffer.hasRemaining())
+				channel.write(buffer);
+			buffer.clear();
+		}
+
+		/**
+		*	Flush buffered bytes and close the channel.
+		*	@throws java.io.IOException if an I/O error occurs
+		*/
+		public void close() throws IOException{
+			try{
+				flush();
+			}finally{
+				channel.close();
+			}
+		}
+	}
+
+	/** Buffered reader over a {@link java.nio.channels.FileChannel}.
+	* @author Andrei Hutu
+	* @version 18th October 2026
+	*/
+	private static class Input implements AutoCloseable{
+		/**
+		*	Channel read from
+		*/
+		private FileChannel channel;
+		/**
+		*	Bytes read from the channel but not consumed yet
+		*/
+		private ByteBuffer buffer;
+
+		/**
+		*	Constructs new Input over a channel.
+		*	@param channelIn channel to read from
+		*/
+		private Input(FileChannel channelIn){
+			channel = channelIn;
+			buffer = ByteBuffer.allocate(BUFFER_SIZE);
+			buffer.flip();
+		}
+
+		/**
+		*	Read one byte.
+		*	@return Returns byte value, from 0 to 255.
+		*	@throws java.io.IOException if an I/O error occurs or the end of the file is reached
+		*/
+		private int get() throws IOException{
+			if(!buffer.hasRemaining()){
+				buffer.clear();
+				int read = channel.read(buffer);
+				buffer.flip();
+				if(read <= 0 && !buffer.hasRemaining())
+					throw new EOFException();
+			}
+			return buffer.get() & 0xff;
+		}
+
+		/**
+		*	Read unsigned varint.
+		*	@return Returns value read.
+		*	@throws java.io.IOException if an I/O error occurs, the end of the file is reached or the varint is too long
+		*/
+		private long getVarint() throws IOException{
+			long value = 0;
+			for(int shift=0; shift<63; shift+=7){
+				int b = get();
+				value |= (long)(b & 0x7f) << shift;
+				if((b & 0x80) == 0)
+					return value;
+			}
+			throw new IOException("Invalid varint");
+		}
+
+		/**
+		*	Returns number of bytes left to read.
+		*	@return Returns number of bytes between the current position and the end of the file.
+		*	@throws java.io.IOException if an I/O error occurs
+		*/
+		private long remaining() throws IOException{
+			return channel.size() - channel.position() + buffer.remaining();
+		}
+
+		/**
+		*	Close the channel.
+		*	@throws java.io.IOException if an I/O error occurs
+		*/
+		public void close() throws IOException{
+			channel.close();
+		}
+	}
+}
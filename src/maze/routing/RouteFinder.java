@@ -5,10 +5,6 @@ import maze.*;
 import java.io.IOException;
 import java.io.FileNotFoundException;
 import java.io.Serializable;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 
 
 /** Class which contains the logic for finding the solution to a {@link maze.Maze} object.
@@ -17,18 +13,42 @@ import java.io.ObjectOutputStream;
 * @see maze.Maze
 */
 public class RouteFinder implements Serializable{
+	/**
+	*	Initial capacity of the route stacks
+	*/
+	private static final int INITIAL_CAPACITY = 64;
 	/**
 	*	Maze to be solved
 	*/
 	private Maze maze;
 	/**
-	*	Route of {@link maze.Tile} objects from entrance to exit
+	*	Route of cells (indexed like {@link maze.Maze#getTile(int)}) from entrance to exit, as a stack
+	*/
+	private int[] route;
+	/**
+	*	Next direction to be taken by each cell in {@link #route}
+	*/
+	private byte[] directions;
+	/**
+	*	Number of cells in {@link #route}
+	*/
+	private int depth;
+	/**
+	*	Index of the entrance cell
+	*/
+	private int entrance;
+	/**
+	*	Index of the exit cell
 	*/
-	private Stack<Tile> route;
+	private int exit;
 	/**
-	*	Next direction to be taken by each {@link maze.Tile} in {@link #route}
+	*	Visited status of every cell of {@link #maze}, indexed like {@link maze.Maze#getTile(int)}
 	*/
-	private Stack<Integer> directions;
+	private BitSet visited;
+	/**
+	*	Total number of steps made
+	*/
+	private long steps;
 	/**
 	*	Finish status of route - Is the maze finished?
 	*/
@@ -37,6 +57,38 @@ public class RouteFinder implements Serializable{
 	*	Start status of route - Has the route finding started?
 	*/
 	private boolean started;
+	/**
+	*	Number of moves onto a cell since created or loaded
+	*/
+	private long forwardMoves;
+	/**
+	*	Number of moves back along the route since created or loaded
+	*/
+	private long backtracks;
+	/**
+	*	Largest number of cells in {@link #route}
+	*/
+	private int peakDepth;
+	/**
+	*	Every cell ever added to {@link #route}
+	*/
+	private BitSet reached;
+	/**
+	*	Time spent in {@link #step(int)} and {@link #solve()} in nanoseconds
+	*/
+	private long searchNanos;
+	/**
+	*	Bytes allocated in {@link #step(int)} and {@link #solve()}, -1 if not supported by the JVM
+	*/
+	private long allocatedBytes;
+	/**
+	*	Have the metrics of the finished search been published to {@link SolveMonitor}?
+	*/
+	private boolean published;
+	/**
+	*	Lowest number of cells {@link #route} has had since {@link #resetLowestDepth()}, so every cell from that position on may have changed
+	*/
+	private transient int lowestDepth;
 
 	/**
 	*	Constructs new RouteFinder from specific {@link maze.Maze} object.
@@ -44,8 +96,14 @@ public class RouteFinder implements Serializable{
 	*/
 	public RouteFinder(Maze mazeIn){
 		maze = mazeIn;
-		route = new Stack<Tile>();
-		directions = new Stack<Integer>();
+		route = new int[INITIAL_CAPACITY];
+		directions = new byte[INITIAL_CAPACITY];
+		depth = 0;
+		entrance = maze.getTileIndex(maze.getEntrance());
+		exit = maze.getTileIndex(maze.getExit());
+		visited = new BitSet(maze.getWidth() * maze.getHeight());
+		reached = new BitSet(maze.getWidth() * maze.getHeight());
+		steps = 0;
 		finished = false;
 		started = false;
 	}
@@ -60,11 +118,69 @@ public class RouteFinder implements Serializable{
 
 	/**
 	*	Returns current route.
+	*	<p>The returned list is a read-only view of the route, not a copy: it changes as the RouteFinder steps.</p>
 	*	@return Returns current route.
 	*/
 	public List<Tile> getRoute(){
-		List<Tile> list = new ArrayList<Tile>(route);
-		return list;
+		return new RouteView();
+	}
+
+	/**
+	*	Returns number of cells in the current route.
+	*	@return Returns number of cells in the current route.
+	*/
+	public int getRouteLength(){
+		return depth;
+	}
+
+	/**
+	*	Returns index of a cell of the current route, as used by {@link maze.Maze#getTile(int)}.
+	*	@param i position in the route, 0 being the entrance
+	*	@return Returns index of the cell.
+	*	@throws IndexOutOfBoundsException if i is not a position in the route
+	*/
+	public int getRouteIndex(int i){
+		if(i < 0 || i >= depth)
+			throw new IndexOutOfBoundsException();
+		return route[i];
+	}
+
+	/**
+	*	Returns lowest number of cells the route has had since {@link #resetLowestDepth()}.
+	*	<p>Positions of the route before it have not changed since, so a view of the route only needs to update the cells from this position on.</p>
+	*	@return Returns lowest route length since the last reset, 0 if it was never reset.
+	*/
+	public int getLowestDepth(){
+		return lowestDepth;
+	}
+
+	/**
+	*	Marks the current route as seen, so {@link #getLowestDepth()} only reports changes from now on.
+	*/
+	public void resetLowestDepth(){
+		lowestDepth = depth;
+	}
+
+	/**
+	*	Returns total number of steps made so far.
+	*	@return Returns total number of steps made.
+	*/
+	public long getSteps(){
+		return steps;
+	}
+
+	/**
+	*	Returns metrics of the route search so far.
+	*	<p>Counts start when the RouteFinder is created or loaded. Time and allocation are only measured in {@link #step(int)} and {@link #solve()}, single steps are not timed.</p>
+	*	@return Returns metrics of the route search.
+	*/
+	public SolveStats getStats(){
+		SolveResult.Status status = SolveResult.Status.RUNNING;
+		if(finished)
+			status = SolveResult.Status.FOUND;
+		else if(started && depth == 0)
+			status = SolveResult.Status.NO_ROUTE;
+		return new SolveStats(Solver.Strategy.DEPTH_FIRST, maze.getWidth(), maze.getHeight(), status, forwardMoves, backtracks, peakDepth, reached.cardinality(), searchNanos, allocatedBytes);
 	}
 
 	/**
@@ -80,23 +196,22 @@ public class RouteFinder implements Serializable{
 	*	@param path Path to file
 	*	@return Returns RouteFinder object from file.
 	*	@throws java.io.FileNotFoundException if the file does not exist, is a directory rather than a regular file, or for some other reason cannot be opened for reading 
-	*	@throws java.io.IOException if an I/O error occurs while reading stream header
-	*	@throws java.lang.ClassNotFoundException if class of a serialized object cannot be found
+	*	@throws java.io.IOException if an I/O error occurs while reading or the file is not a valid route file
+	*	@see RouteCheckpoint
 	*/
-	public static RouteFinder load(String path) throws FileNotFoundException, IOException, ClassNotFoundException{
-		ObjectInputStream objectStream = new ObjectInputStream(new FileInputStream(path));
-        return (RouteFinder)objectStream.readObject();
+	public static RouteFinder load(String path) throws FileNotFoundException, IOException{
+		return RouteCheckpoint.read(path);
 	}
 
 	/**
 	*	Save RouteFinder object to file.
 	*	@param path Path to file
 	*	@throws java.io.FileNotFoundException if the file exists but is a directory rather than a regular file, does not exist but cannot be created, or cannot be opened for any other reason
-	*	@throws java.io.IOException if an I/O error occurs while writing stream header
+	*	@throws java.io.IOException if an I/O error occurs while writing
+	*	@see RouteCheckpoint
 	*/
 	public void save(String path) throws FileNotFoundException, IOException{
-        ObjectOutputStream objectStream = new ObjectOutputStream(new FileOutputStream(path));
-        objectStream.writeObject(this);
+		RouteCheckpoint.write(this, path);
 	}
 
 	/**
@@ -106,71 +221,194 @@ public class RouteFinder implements Serializable{
 	*/
 	public boolean step() throws NoRouteFoundException{
 		// No solution
-		if(route.empty() && started)
+		if(depth == 0 && started)
 			throw new NoRouteFoundException();
 
-		// First step
-		if(route.empty() && !started){
-			Tile entrance = maze.getEntrance();
-			route.push(entrance);
-			directions.push(0);
-			entrance.setVisited(true);
+		SolveResult.Status status = run(1);
+		report(status);
+		return status == SolveResult.Status.FOUND;
+	}
+
+	/**
+	*	Make up to n steps in the {@link maze.Maze}, stopping early if the maze is finished or has no solution.
+	*	@param n maximum number of steps
+	*	@return Returns status of the route and number of steps made.
+	*	@throws IllegalArgumentException if n is negative
+	*/
+	public SolveResult step(int n){
+		if(n < 0)
+			throw new IllegalArgumentException("Number of steps must not be negative");
+		long before = steps;
+		long allocated = SolveMonitor.allocatedBytes();
+		long start = System.nanoTime();
+		SolveResult.Status status = run(n);
+		account(start, allocated);
+		report(status);
+		return new SolveResult(status, steps - before);
+	}
+
+	/**
+	*	Make steps in the {@link maze.Maze} until it is finished or found to have no solution.
+	*	@return Returns status of the route and number of steps made.
+	*/
+	public SolveResult solve(){
+		long before = steps;
+		long allocated = SolveMonitor.allocatedBytes();
+		long start = System.nanoTime();
+		SolveResult.Status status = run(Integer.MAX_VALUE);
+		while(status == SolveResult.Status.RUNNING)
+			status = run(Integer.MAX_VALUE);
+		account(start, allocated);
+		report(status);
+		return new SolveResult(status, steps - before);
+	}
+
+	/**
+	*	Make up to n steps in the {@link maze.Maze}. Each step either moves forward or backward once in the route.
+	*	@param n maximum number of steps
+	*	@return Returns status of the route after the steps.
+	*/
+	private SolveResult.Status run(int n){
+		int taken = 0;
+
+		// First step, which finds no route at once if the exit cannot be reached
+		if(!started && n > 0){
+			if(maze.isSolvable())
+				push(entrance);
 			started = true;
-			return false;
+			taken++;
 		}
 
-		// Maze solved
-		if(route.peek().equals(maze.getExit()))
-			return true;
+		while(true){
+			// No solution
+			if(depth == 0){
+				steps += taken;
+				return started ? SolveResult.Status.NO_ROUTE : SolveResult.Status.RUNNING;
+			}
 
-		// Get current tile and direction
-		Tile curr_tile = route.peek();
-		int curr_dir = directions.peek();
-		Tile next_tile = null;
+			// Maze solved
+			int curr_cell = route[depth - 1];
+			if(curr_cell == exit){
+				finished = true;
+				steps += taken;
+				return SolveResult.Status.FOUND;
+			}
 
-		// Cycle through every direction exactly once		
-		for(int dir = curr_dir; dir<4; dir++){
-			switch(dir){
-				case 0:
-					next_tile=maze.getAdjacentTile(curr_tile, Maze.Direction.EAST);
-					break;
-				case 1:
-					next_tile=maze.getAdjacentTile(curr_tile, Maze.Direction.SOUTH);
-					break;
-				case 2:
-					next_tile=maze.getAdjacentTile(curr_tile, Maze.Direction.WEST);
-					break;
-				case 3:
-					next_tile=maze.getAdjacentTile(curr_tile, Maze.Direction.NORTH);
-					break;
+			if(taken == n){
+				steps += taken;
+				return SolveResult.Status.RUNNING;
 			}
+			taken++;
+
+			// Cycle through every direction exactly once
+			int dir = directions[depth - 1];
+			for(; dir<4; dir++){
+				int next_cell = maze.getAdjacentIndex(curr_cell, Routes.DIRECTIONS[dir]);
 
-			// Try forward move if possible
-			if(next_tile != null && next_tile.isNavigable() && !next_tile.getVisited()){
-				// Remember direction taken from current tile
-				directions.pop();
-				directions.push(dir + 1);
-
-				// Add next tile to route
-				route.push(next_tile);
-				directions.push(0);
-				next_tile.setVisited(true);
-
-				//Check for solution
-				if(route.peek().equals(maze.getExit())){
-					finished = true;
-					return true;
-				}else{
-					return false;
+				// Try forward move if possible
+				if(next_cell != -1 && maze.isNavigable(next_cell) && !visited.get(next_cell)){
+					// Remember direction taken from current cell
+					directions[depth - 1] = (byte)(dir + 1);
+
+					// Add next cell to route
+					push(next_cell);
+					break;
 				}
 			}
+
+			// Go backwards
+			if(dir == 4){
+				depth--;
+				if(depth < lowestDepth)
+					lowestDepth = depth;
+				backtracks++;
+				visited.clear(curr_cell);
+			}
 		}
+	}
 
-		// Go backwards 
-		route.pop();
-		directions.pop();
-		curr_tile.setVisited(false);
-		return false;
+	/**
+	*	Adds the time and allocation of a call to the metrics.
+	*	@param start {@link System#nanoTime()} at the start of the call
+	*	@param allocated bytes allocated by the thread at the start of the call, -1 if not supported
+	*/
+	private void account(long start, long allocated){
+		searchNanos += System.nanoTime() - start;
+		if(allocated < 0 || allocatedBytes < 0)
+			allocatedBytes = -1;
+		else
+			allocatedBytes += SolveMonitor.allocatedBytes() - allocated;
+	}
+
+	/**
+	*	Publishes the metrics to {@link SolveMonitor} the first time the search is over.
+	*	@param status status of the route after a call
+	*/
+	private void report(SolveResult.Status status){
+		if(status != SolveResult.Status.RUNNING && !published){
+			published = true;
+			SolveMonitor.publish(getStats());
+		}
+	}
+
+	/**
+	*	Returns start status of route.
+	*	@return Returns if the route finding has started.
+	*/
+	boolean isStarted(){
+		return started;
+	}
+
+	/**
+	*	Returns next direction to be tried from the last cell of the route.
+	*	@return Returns position in {@link Routes#DIRECTIONS} of the next direction, 4 if all have been tried.
+	*/
+	int getNextDirection(){
+		return directions[depth - 1];
+	}
+
+	/**
+	*	Restore state of the route search, as saved by {@link RouteCheckpoint}.
+	*	@param routeIn route of cells from the entrance
+	*	@param directionsIn next direction to be taken by each cell of the route
+	*	@param depthIn number of cells in the route
+	*	@param visitedIn visited status of every cell
+	*	@param stepsIn total number of steps made
+	*	@param startedIn start status of route
+	*	@param finishedIn finish status of route
+	*/
+	void restore(int[] routeIn, byte[] directionsIn, int depthIn, BitSet visitedIn, long stepsIn, boolean startedIn, boolean finishedIn){
+		route = routeIn;
+		directions = directionsIn;
+		depth = depthIn;
+		visited = visitedIn;
+		steps = stepsIn;
+		started = startedIn;
+		finished = finishedIn;
+		reached = (BitSet)visitedIn.clone();
+		peakDepth = depthIn;
+		lowestDepth = 0;
+		// Search already over when saved
+		published = finishedIn || (startedIn && depthIn == 0);
+	}
+
+	/**
+	*	Add cell to the top of the route, with no direction taken yet, and mark it visited.
+	*	@param cell index of the cell
+	*/
+	private void push(int cell){
+		if(depth == route.length){
+			route = Arrays.copyOf(route, depth * 2);
+			directions = Arrays.copyOf(directions, depth * 2);
+		}
+		route[depth] = cell;
+		directions[depth] = 0;
+		depth++;
+		visited.set(cell);
+		reached.set(cell);
+		forwardMoves++;
+		if(depth > peakDepth)
+			peakDepth = depth;
 	}
 
 	/**
@@ -180,7 +418,6 @@ public class RouteFinder implements Serializable{
 	public String toString(){
 		String output = "";
 		List<List<Tile>> tiles = maze.getTiles();
-		List<Tile> list = getRoute();
 		int nr_rows = tiles.size();
 
 		// Print reverse order of rows
@@ -192,8 +429,8 @@ public class RouteFinder implements Serializable{
 			// Print row
 			for(int j = 0; j < nr_col; j++){
 				String tile_char;
-				// Highlight route
-				if(list.contains(row.get(j)))
+				// Highlight route - cells on the route are exactly the visited ones
+				if(visited.get(i * nr_col + j))
 					tile_char = "*";
 				else
 					tile_char = row.get(j).toString(); 
@@ -209,4 +446,27 @@ public class RouteFinder implements Serializable{
 		}
 		return output;
 	}
+
+	/** Read-only view of the current route, from entrance to the current cell.
+	* @author Andrei Hutu
+	* @version 18th October 2026
+	*/
+	private class RouteView extends AbstractList<Tile> implements RandomAccess{
+		/**
+		*	Returns Tile at position i of the route.
+		*	@param i position in the route
+		*	@return Returns Tile at position i of the route.
+		*/
+		public Tile get(int i){
+			return maze.getTile(getRouteIndex(i));
+		}
+
+		/**
+		*	Returns number of Tiles in the route.
+		*	@return Returns number of Tiles in the route.
+		*/
+		public int size(){
+			return depth;
+		}
+	}
 }
\ No newline at end of file
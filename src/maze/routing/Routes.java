@@ -0,0 +1,78 @@
+package maze.routing;
+
+import java.util.*;
+import maze.*;
+
+/** Helper methods shared by the {@link Solver} engines.
+* @author Andrei Hutu
+* @version 18th October 2026
+*/
+class Routes{
+	/**
+	*	Directions in the order they are tried by {@link RouteFinder}
+	*/
+	static final Maze.Direction[] DIRECTIONS = {
+		Maze.Direction.EAST, Maze.Direction.SOUTH, Maze.Direction.WEST, Maze.Direction.NORTH
+	};
+
+	/**
+	*	Not instantiable.
+	*/
+	private Routes(){}
+
+	/**
+	*	Builds route by following parent links back from the end cell.
+	*	@param maze Maze the cells belong to
+	*	@param parent parent cell of every reached cell, the start cell being its own parent
+	*	@param end index of the last cell of the route
+	*	@return Returns route of Tile objects from start to end.
+	*/
+	static List<Tile> fromParents(Maze maze, int[] parent, int end){
+		ArrayList<Tile> route = new ArrayList<Tile>();
+		int cell = end;
+		route.add(maze.getTile(cell));
+		while(parent[cell] != cell){
+			cell = parent[cell];
+			route.add(maze.getTile(cell));
+		}
+		Collections.reverse(route);
+		return route;
+	}
+
+	/**
+	*	Fails a search straight away if the {@link maze.Maze#getConnectivity() connectivity index} shows the exit cannot be reached, so unsolvable mazes are rejected in linear time.
+	*	@param strategy strategy of the search
+	*	@param maze Maze to be solved
+	*	@param start value of {@link System#nanoTime()} when the search started
+	*	@param allocated value of {@link SolveMonitor#allocatedBytes()} when the search started
+	*	@throws NoRouteFoundException if the entrance and exit are not connected
+	*/
+	static void checkSolvable(Solver.Strategy strategy, Maze maze, long start, long allocated) throws NoRouteFoundException{
+		if(!maze.isSolvable()){
+			SolveMonitor.publish(strategy, maze, SolveResult.Status.NO_ROUTE, 0, 0, 0, 0, start, allocated);
+			throw new NoRouteFoundException();
+		}
+	}
+
+	/**
+	*	Returns Manhattan distance between two cells.
+	*	@param maze Maze the cells belong to
+	*	@param from index of first cell
+	*	@param to index of second cell
+	*	@return Returns Manhattan distance between the cells.
+	*/
+	static int manhattan(Maze maze, int from, int to){
+		int width = maze.getWidth();
+		return Math.abs(from % width - to % width) + Math.abs(from / width - to / width);
+	}
+
+	/**
+	*	Returns {@link CellHeap} key for A*, ordering cells or junction nodes by estimated total length, then by longest distance from the start.
+	*	@param estimate estimated length of route through the cell
+	*	@param dist distance of the cell from the start
+	*	@return Returns heap key of the cell.
+	*/
+	static long heapKey(int estimate, int dist){
+		return ((long)estimate << 32) | (Integer.MAX_VALUE - dist);
+	}
+}
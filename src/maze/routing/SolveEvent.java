@@ -0,0 +1,68 @@
+package maze.routing;
+
+import jdk.jfr.*;
+
+/** JDK Flight Recorder event with the metrics of one finished route search.
+* <p>Recorded as {@code maze.Solve} when a flight recording with the event enabled is running, e.g. {@code -XX:StartFlightRecording}.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+* @see SolveMonitor
+*/
+@Name("maze.Solve")
+@Label("Maze Solve")
+@Category("Maze")
+@Description("Metrics of one finished route search")
+class SolveEvent extends Event{
+	/**
+	*	Strategy of the search
+	*/
+	@Label("Strategy")
+	String strategy;
+	/**
+	*	Width of the maze searched
+	*/
+	@Label("Width")
+	int width;
+	/**
+	*	Height of the maze searched
+	*/
+	@Label("Height")
+	int height;
+	/**
+	*	Outcome of the search
+	*/
+	@Label("Status")
+	String status;
+	/**
+	*	Number of forward moves, or cells expanded
+	*/
+	@Label("Forward Moves")
+	long forwardMoves;
+	/**
+	*	Number of backtracks
+	*/
+	@Label("Backtracks")
+	long backtracks;
+	/**
+	*	Largest size of the route stack, queue or heap
+	*/
+	@Label("Peak Frontier")
+	long peakFrontier;
+	/**
+	*	Number of distinct cells reached
+	*/
+	@Label("Cells Visited")
+	long cellsVisited;
+	/**
+	*	Time spent searching
+	*/
+	@Label("Search Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long searchTime;
+	/**
+	*	Bytes allocated by the searching thread
+	*/
+	@Label("Allocated")
+	@DataAmount
+	long allocated;
+}
@@ -0,0 +1,15 @@
+package maze.routing;
+
+/** Interface for objects notified with the metrics of every finished route search.
+* <p>Listeners are called on the thread which finished the search, so they should return quickly.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+* @see SolveMonitor#addListener(SolveListener)
+*/
+public interface SolveListener{
+	/**
+	*	Called when a route search finds a route or finds that there is none.
+	*	@param stats metrics of the search
+	*/
+	public void solveFinished(SolveStats stats);
+}
@@ -0,0 +1,156 @@
+package maze.routing;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.*;
+import java.util.concurrent.*;
+import javax.management.*;
+
+/** Class which publishes the metrics of every finished route search.
+* <p>Every search of {@link RouteFinder} and of every {@link Solver.Strategy} reports a {@link SolveStats} here when it finds a route or finds that there is none, including mazes rejected by the connectivity index before searching. The metrics are passed to the registered {@link SolveListener} objects, added to a {@link SolverStatsMXBean} per strategy on the platform MBean server, and recorded as a {@code maze.Solve} JDK Flight Recorder event.</p>
+* <p>Starting the platform MBean server and loading the JFR event classes takes a noticeable time the first time in a JVM, so both are done when this class is loaded, not by the first search to finish. Solvers load the class before they start timing, and {@link #initialize()} loads it ahead of any solving.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+* @see SolveStats
+*/
+public class SolveMonitor{
+	/**
+	*	Registered listeners
+	*/
+	private static final List<SolveListener> listeners = new CopyOnWriteArrayList<SolveListener>();
+	/**
+	*	Totals of every strategy with a finished search
+	*/
+	private static final Map<Solver.Strategy, SolverStats> totals = new EnumMap<Solver.Strategy, SolverStats>(Solver.Strategy.class);
+	/**
+	*	Thread management bean with allocation counters, null if not supported by the JVM
+	*/
+	private static final com.sun.management.ThreadMXBean threads = getThreadBean();
+	static{
+		// Never changed afterwards, so read by many threads without locking
+		for(Solver.Strategy strategy : Solver.Strategy.values())
+			totals.put(strategy, register(strategy));
+		// Loads the JFR event classes
+		new SolveEvent().isEnabled();
+	}
+
+	/**
+	*	Class only has static methods
+	*/
+	private SolveMonitor(){}
+
+	/**
+	*	Sets up JMX and JFR publishing now, so it is not timed as part of the first search.
+	*	<p>Does nothing once done, as the setup runs when this class is loaded.</p>
+	*/
+	public static void initialize(){}
+
+	/**
+	*	Registers a listener for the metrics of every finished search.
+	*	@param listener listener to be added
+	*/
+	public static void addListener(SolveListener listener){
+		listeners.add(listener);
+	}
+
+	/**
+	*	Removes a registered listener.
+	*	@param listener listener to be removed
+	*/
+	public static void removeListener(SolveListener listener){
+		listeners.remove(listener);
+	}
+
+	/**
+	*	Returns totals of all finished searches of a strategy.
+	*	@param strategy strategy of the searches
+	*	@return Returns totals of the strategy, all zero until a search of it has finished.
+	*/
+	public static SolverStatsMXBean getTotals(Solver.Strategy strategy){
+		return totals.get(strategy);
+	}
+
+	/**
+	*	Returns bytes allocated so far by the current thread.
+	*	@return Returns allocated bytes, -1 if not supported by the JVM.
+	*/
+	static long allocatedBytes(){
+		return threads == null ? -1 : threads.getCurrentThreadAllocatedBytes();
+	}
+
+	/**
+	*	Publishes the metrics of a finished search to the listeners, JMX and JFR.
+	*	@param stats metrics of the search
+	*/
+	static void publish(SolveStats stats){
+		for(SolveListener listener : listeners)
+			listener.solveFinished(stats);
+
+		totals.get(stats.getStrategy()).add(stats);
+
+		SolveEvent event = new SolveEvent();
+		if(event.isEnabled()){
+			event.strategy = stats.getStrategy().toString();
+			event.width = stats.getWidth();
+			event.height = stats.getHeight();
+			event.status = stats.getStatus().toString();
+			event.forwardMoves = stats.getForwardMoves();
+			event.backtracks = stats.getBacktracks();
+			event.peakFrontier = stats.getPeakFrontier();
+			event.cellsVisited = stats.getCellsVisited();
+			event.searchTime = stats.getNanos();
+			event.allocated = stats.getAllocatedBytes();
+			event.commit();
+		}
+	}
+
+	/**
+	*	Publishes the metrics of a finished search which was timed from start to end.
+	*	@param strategy strategy of the search
+	*	@param maze Maze searched
+	*	@param status outcome of the search
+	*	@param forwardMoves number of moves onto a cell, or cells expanded
+	*	@param backtracks number of moves back along the route
+	*	@param peakFrontier largest size of the route stack, queue or heap
+	*	@param cellsVisited number of distinct cells reached
+	*	@param start {@link System#nanoTime()} at the start of the search
+	*	@param allocated value of {@link #allocatedBytes()} at the start of the search
+	*/
+	static void publish(Solver.Strategy strategy, maze.Maze maze, SolveResult.Status status, long forwardMoves, long backtracks, long peakFrontier, long cellsVisited, long start, long allocated){
+		long nanos = System.nanoTime() - start;
+		long bytes = allocated < 0 ? -1 : allocatedBytes() - allocated;
+		publish(new SolveStats(strategy, maze.getWidth(), maze.getHeight(), status, forwardMoves, backtracks, peakFrontier, cellsVisited, nanos, bytes));
+	}
+
+	/**
+	*	Creates the totals of a strategy and registers them on the platform MBean server.
+	*	@param strategy strategy of the searches
+	*	@return Returns new totals, which are still used if they cannot be registered.
+	*/
+	private static SolverStats register(Solver.Strategy strategy){
+		SolverStats stats = new SolverStats();
+		try{
+			ObjectName name = new ObjectName("maze.routing:type=SolverStats,name=" + strategy);
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			if(!server.isRegistered(name))
+				server.registerMBean(stats, name);
+		}catch(JMException | SecurityException err){
+			// Totals stay available through getTotals
+		}
+		return stats;
+	}
+
+	/**
+	*	Returns thread management bean with allocation counters.
+	*	@return Returns thread bean, null if allocation counting is not supported by the JVM.
+	*/
+	private static com.sun.management.ThreadMXBean getThreadBean(){
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if(bean instanceof com.sun.management.ThreadMXBean){
+			com.sun.management.ThreadMXBean sun_bean = (com.sun.management.ThreadMXBean)bean;
+			if(sun_bean.isThreadAllocatedMemorySupported() && sun_bean.isThreadAllocatedMemoryEnabled())
+				return sun_bean;
+		}
+		return null;
+	}
+}
@@ -0,0 +1,78 @@
+package maze.routing;
+
+/** Class for the outcome of running a {@link RouteFinder} for a number of steps.
+* @author Andrei Hutu
+* @version 18th October 2026
+* @see RouteFinder#step(int)
+* @see RouteFinder#solve()
+*/
+public class SolveResult{
+	/**
+	*	Status of the route search
+	*/
+	private Status status;
+	/**
+	*	Number of moves made
+	*/
+	private long steps;
+
+	/**
+	*	All route search statuses
+	*/
+	public enum Status{
+		/**
+		*	Route from entrance to exit found
+		*/
+		FOUND,
+		/**
+		*	Maze does not have a possible solution
+		*/
+		NO_ROUTE,
+		/**
+		*	Route search not finished yet
+		*/
+		RUNNING;
+	}
+
+	/**
+	*	Constructs new SolveResult.
+	*	@param statusIn status of the route search
+	*	@param stepsIn number of moves made
+	*/
+	public SolveResult(Status statusIn, long stepsIn){
+		status = statusIn;
+		steps = stepsIn;
+	}
+
+	/**
+	*	Returns status of the route search.
+	*	@return Returns status of the route search.
+	*/
+	public Status getStatus(){
+		return status;
+	}
+
+	/**
+	*	Returns if a route from entrance to exit was found.
+	*	@return Returns if a route was found.
+	*/
+	public boolean isFound(){
+		return status == Status.FOUND;
+	}
+
+	/**
+	*	Returns number of moves made (forward or backward).
+	*	@return Returns number of moves made.
+	*/
+	public long getSteps(){
+		return steps;
+	}
+
+	/**
+	*	Returns string representation of SolveResult.
+	*	@return Returns string representation of SolveResult.
+	*/
+	public String toString(){
+		return (status + " after " + steps + " steps");
+	}
+}
@@ -0,0 +1,174 @@
+package maze.routing;
+
+/** Class for the metrics of one route search, as reported to {@link SolveListener} objects.
+* <p>Depth-first searches count forward moves and backtracks along the route stack. Breadth-first and A* searches never backtrack: their forward moves are the cells expanded, and their frontier is the queue or heap of cells waiting to be expanded.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+* @see SolveMonitor
+*/
+public class SolveStats{
+	/**
+	*	Strategy of the search
+	*/
+	private Solver.Strategy strategy;
+	/**
+	*	Width of the maze searched
+	*/
+	private int width;
+	/**
+	*	Height of the maze searched
+	*/
+	private int height;
+	/**
+	*	Outcome of the search
+	*/
+	private SolveResult.Status status;
+	/**
+	*	Number of moves onto a cell, or cells expanded
+	*/
+	private long forwardMoves;
+	/**
+	*	Number of moves back along the route
+	*/
+	private long backtracks;
+	/**
+	*	Largest size of the route stack, queue or heap
+	*/
+	private long peakFrontier;
+	/**
+	*	Number of distinct cells reached
+	*/
+	private long cellsVisited;
+	/**
+	*	Time spent searching in nanoseconds
+	*/
+	private long nanos;
+	/**
+	*	Bytes allocated by the searching thread, -1 if not supported by the JVM
+	*/
+	private long allocatedBytes;
+
+	/**
+	*	Constructs new SolveStats.
+	*	@param strategyIn strategy of the search
+	*	@param widthIn width of the maze searched
+	*	@param heightIn height of the maze searched
+	*	@param statusIn outcome of the search
+	*	@param forwardMovesIn number of moves onto a cell, or cells expanded
+	*	@param backtracksIn number of moves back along the route
+	*	@param peakFrontierIn largest size of the route stack, queue or heap
+	*	@param cellsVisitedIn number of distinct cells reached
+	*	@param nanosIn time spent searching in nanoseconds
+	*	@param allocatedBytesIn bytes allocated by the searching thread, -1 if not supported
+	*/
+	public SolveStats(Solver.Strategy strategyIn, int widthIn, int heightIn, SolveResult.Status statusIn, long forwardMovesIn, long backtracksIn, long peakFrontierIn, long cellsVisitedIn, long nanosIn, long allocatedBytesIn){
+		strategy = strategyIn;
+		width = widthIn;
+		height = heightIn;
+		status = statusIn;
+		forwardMoves = forwardMovesIn;
+		backtracks = backtracksIn;
+		peakFrontier = peakFrontierIn;
+		cellsVisited = cellsVisitedIn;
+		nanos = nanosIn;
+		allocatedBytes = allocatedBytesIn;
+	}
+
+	/**
+	*	Returns strategy of the search.
+	*	@return Returns strategy of the search.
+	*/
+	public Solver.Strategy getStrategy(){
+		return strategy;
+	}
+
+	/**
+	*	Returns width of the maze searched.
+	*	@return Returns width of the maze.
+	*/
+	public int getWidth(){
+		return width;
+	}
+
+	/**
+	*	Returns height of the maze searched.
+	*	@return Returns height of the maze.
+	*/
+	public int getHeight(){
+		return height;
+	}
+
+	/**
+	*	Returns outcome of the search.
+	*	@return Returns outcome of the search.
+	*/
+	public SolveResult.Status getStatus(){
+		return status;
+	}
+
+	/**
+	*	Returns number of moves onto a cell, or number of cells expanded for breadth-first and A* searches.
+	*	@return Returns number of forward moves.
+	*/
+	public long getForwardMoves(){
+		return forwardMoves;
+	}
+
+	/**
+	*	Returns number of moves back along the route.
+	*	@return Returns number of backtracks, 0 for breadth-first and A* searches.
+	*/
+	public long getBacktracks(){
+		return backtracks;
+	}
+
+	/**
+	*	Returns largest size of the frontier: the route stack for depth-first searches, the queue or heap otherwise.
+	*	@return Returns peak frontier size.
+	*/
+	public long getPeakFrontier(){
+		return peakFrontier;
+	}
+
+	/**
+	*	Returns number of distinct cells reached.
+	*	@return Returns number of cells visited.
+	*/
+	public long getCellsVisited(){
+		return cellsVisited;
+	}
+
+	/**
+	*	Returns time spent searching.
+	*	@return Returns time spent searching in nanoseconds.
+	*/
+	public long getNanos(){
+		return nanos;
+	}
+
+	/**
+	*	Returns bytes allocated by the searching thread.
+	*	@return Returns allocated bytes, -1 if not supported by the JVM.
+	*/
+	public long getAllocatedBytes(){
+		return allocatedBytes;
+	}
+
+	/**
+	*	Returns allocation rate of the search.
+	*	@return Returns allocated bytes per second, -1 if not supported by the JVM.
+	*/
+	public double getAllocationRate(){
+		if(allocatedBytes < 0)
+			return -1;
+		return nanos == 0 ? 0 : allocatedBytes * 1e9 / nanos;
+	}
+
+	/**
+	*	Returns string representation of SolveStats.
+	*	@return Returns string representation of SolveStats.
+	*/
+	public String toString(){
+		return String.format("%s %dx%d %s: %d forward, %d back, peak %d, %d cells, %.3f ms, %d bytes", strategy, width, height, status, forwardMoves, backtracks, peakFrontier, cellsVisited, nanos / 1e6, allocatedBytes);
+	}
+}
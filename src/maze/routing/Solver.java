@@ -0,0 +1,89 @@
+package maze.routing;
+
+import java.util.List;
+import maze.*;
+
+/** Interface for engines which find a complete route through a {@link maze.Maze} object.
+* <p>Every engine returns the route in the same shape as {@link RouteFinder#getRoute()}: the {@link maze.Tile} objects from the entrance to the exit, in order.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+* @see RouteFinder
+*/
+public interface Solver{
+	/**
+	*	Finds a route from the entrance to the exit of a {@link maze.Maze}.
+	*	@param maze Maze to be solved
+	*	@return Returns route of Tile objects from entrance to exit.
+	*	@throws NoRouteFoundException if the maze does not have a possible solution
+	*/
+	public List<Tile> solve(Maze maze) throws NoRouteFoundException;
+
+	/**
+	*	All solving strategies
+	*/
+	public enum Strategy{
+		/**
+		*	Backtracking depth-first search, as stepped through by {@link RouteFinder}
+		*/
+		DEPTH_FIRST,
+		/**
+		*	Breadth-first search - shortest route
+		*/
+		BREADTH_FIRST,
+		/**
+		*	A* search with Manhattan distance heuristic - shortest route
+		*/
+		A_STAR,
+		/**
+		*	Breadth-first search from both the entrance and the exit - shortest route
+		*/
+		BIDIRECTIONAL,
+		/**
+		*	Breadth-first search from both the entrance and the exit, on two threads - shortest route
+		*/
+		BIDIRECTIONAL_PARALLEL,
+		/**
+		*	Level-synchronous breadth-first search on the common fork-join pool - shortest route
+		*/
+		PARALLEL_BREADTH_FIRST,
+		/**
+		*	A* search on the cached junction graph, moving a corridor at a time - shortest route
+		*/
+		JUNCTION_GRAPH,
+		/**
+		*	Jump Point Search for 4-connected grids, crossing open areas a straight line at a time - shortest route
+		*/
+		JUMP_POINT,
+		/**
+		*	Lifelong Planning A*, repairing its last search after tiles are changed - shortest route
+		*/
+		INCREMENTAL;
+
+		/**
+		*	Returns new Solver using this strategy.
+		*	@return Returns new Solver using this strategy.
+		*/
+		public Solver getSolver(){
+			switch(this){
+				case BREADTH_FIRST:
+					return new BreadthFirstSolver();
+				case A_STAR:
+					return new AStarSolver();
+				case BIDIRECTIONAL:
+					return new BidirectionalSolver();
+				case BIDIRECTIONAL_PARALLEL:
+					return new BidirectionalSolver(true);
+				case PARALLEL_BREADTH_FIRST:
+					return new ParallelBreadthFirstSolver();
+				case JUNCTION_GRAPH:
+					return new JunctionSolver();
+				case JUMP_POINT:
+					return new JumpPointSolver();
+				case INCREMENTAL:
+					return new IncrementalSolver();
+				default:
+					return new DepthFirstSolver();
+			}
+		}
+	}
+}
@@ -0,0 +1,152 @@
+package maze.routing;
+
+import java.util.concurrent.atomic.*;
+
+/** Class for the totals of all route searches of one {@link Solver.Strategy}, exposed over JMX.
+* <p>Totals are updated with atomic counters, so searches on several threads can be added without locking.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+* @see SolveMonitor
+*/
+class SolverStats implements SolverStatsMXBean{
+	/**
+	*	Number of finished searches
+	*/
+	private final AtomicLong solveCount = new AtomicLong();
+	/**
+	*	Number of searches which found no route
+	*/
+	private final AtomicLong noRouteCount = new AtomicLong();
+	/**
+	*	Total number of forward moves
+	*/
+	private final AtomicLong forwardMoves = new AtomicLong();
+	/**
+	*	Total number of backtracks
+	*/
+	private final AtomicLong backtracks = new AtomicLong();
+	/**
+	*	Total number of cells visited
+	*/
+	private final AtomicLong cellsVisited = new AtomicLong();
+	/**
+	*	Largest frontier of any search
+	*/
+	private final AtomicLong maxPeakFrontier = new AtomicLong();
+	/**
+	*	Total time spent searching in nanoseconds
+	*/
+	private final AtomicLong totalNanos = new AtomicLong();
+	/**
+	*	Longest search time in nanoseconds
+	*/
+	private final AtomicLong maxNanos = new AtomicLong();
+	/**
+	*	Total bytes allocated by searching threads
+	*/
+	private final AtomicLong allocatedBytes = new AtomicLong();
+	/**
+	*	Metrics of the last finished search
+	*/
+	private volatile SolveStats last;
+
+	/**
+	*	Adds the metrics of a finished search to the totals.
+	*	@param stats metrics of the search
+	*/
+	void add(SolveStats stats){
+		solveCount.incrementAndGet();
+		if(stats.getStatus() == SolveResult.Status.NO_ROUTE)
+			noRouteCount.incrementAndGet();
+		forwardMoves.addAndGet(stats.getForwardMoves());
+		backtracks.addAndGet(stats.getBacktracks());
+		cellsVisited.addAndGet(stats.getCellsVisited());
+		maxPeakFrontier.accumulateAndGet(stats.getPeakFrontier(), Math::max);
+		totalNanos.addAndGet(stats.getNanos());
+		maxNanos.accumulateAndGet(stats.getNanos(), Math::max);
+		if(stats.getAllocatedBytes() > 0)
+			allocatedBytes.addAndGet(stats.getAllocatedBytes());
+		last = stats;
+	}
+
+	/**
+	*	Returns number of finished searches.
+	*	@return Returns number of finished searches.
+	*/
+	public long getSolveCount(){
+		return solveCount.get();
+	}
+
+	/**
+	*	Returns number of searches which found no route.
+	*	@return Returns number of searches which found no route.
+	*/
+	public long getNoRouteCount(){
+		return noRouteCount.get();
+	}
+
+	/**
+	*	Returns total number of forward moves, or cells expanded.
+	*	@return Returns total number of forward moves.
+	*/
+	public long getForwardMoves(){
+		return forwardMoves.get();
+	}
+
+	/**
+	*	Returns total number of moves back along the route.
+	*	@return Returns total number of backtracks.
+	*/
+	public long getBacktracks(){
+		return backtracks.get();
+	}
+
+	/**
+	*	Returns total number of distinct cells reached.
+	*	@return Returns total number of cells visited.
+	*/
+	public long getCellsVisited(){
+		return cellsVisited.get();
+	}
+
+	/**
+	*	Returns largest frontier of any search.
+	*	@return Returns largest peak frontier size.
+	*/
+	public long getMaxPeakFrontier(){
+		return maxPeakFrontier.get();
+	}
+
+	/**
+	*	Returns total time spent searching.
+	*	@return Returns total time in nanoseconds.
+	*/
+	public long getTotalNanos(){
+		return totalNanos.get();
+	}
+
+	/**
+	*	Returns longest time spent on one search.
+	*	@return Returns longest search time in nanoseconds.
+	*/
+	public long getMaxNanos(){
+		return maxNanos.get();
+	}
+
+	/**
+	*	Returns total bytes allocated by searching threads.
+	*	@return Returns total allocated bytes, 0 if not supported by the JVM.
+	*/
+	public long getAllocatedBytes(){
+		return allocatedBytes.get();
+	}
+
+	/**
+	*	Returns metrics of the last finished search.
+	*	@return Returns string representation of the last search.
+	*/
+	public String getLastSolve(){
+		SolveStats stats = last;
+		return stats == null ? "" : stats.toString();
+	}
+}
@@ -0,0 +1,69 @@
+package maze.routing;
+
+/** JMX management interface for the totals of all route searches of one {@link Solver.Strategy}.
+* <p>Registered on the platform MBean server as {@code maze.routing:type=SolverStats,name=<strategy>} once the first search of the strategy finishes.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+* @see SolveMonitor
+*/
+public interface SolverStatsMXBean{
+	/**
+	*	Returns number of finished searches.
+	*	@return Returns number of finished searches.
+	*/
+	public long getSolveCount();
+
+	/**
+	*	Returns number of searches which found no route.
+	*	@return Returns number of searches which found no route.
+	*/
+	public long getNoRouteCount();
+
+	/**
+	*	Returns total number of forward moves, or cells expanded.
+	*	@return Returns total number of forward moves.
+	*/
+	public long getForwardMoves();
+
+	/**
+	*	Returns total number of moves back along the route.
+	*	@return Returns total number of backtracks.
+	*/
+	public long getBacktracks();
+
+	/**
+	*	Returns total number of distinct cells reached.
+	*	@return Returns total number of cells visited.
+	*/
+	public long getCellsVisited();
+
+	/**
+	*	Returns largest frontier of any search.
+	*	@return Returns largest peak frontier size.
+	*/
+	public long getMaxPeakFrontier();
+
+	/**
+	*	Returns total time spent searching.
+	*	@return Returns total time in nanoseconds.
+	*/
+	public long getTotalNanos();
+
+	/**
+	*	Returns longest time spent on one search.
+	*	@return Returns longest search time in nanoseconds.
+	*/
+	public long getMaxNanos();
+
+	/**
+	*	Returns total bytes allocated by searching threads.
+	*	@return Returns total allocated bytes, 0 if not supported by the JVM.
+	*/
+	public long getAllocatedBytes();
+
+	/**
+	*	Returns metrics of the last finished search.
+	*	@return Returns string representation of the last search.
+	*/
+	public String getLastSolve();
+}
@@ -5,11 +5,14 @@ import maze.*;
 import java.util.*;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import javafx.scene.Node;
 import javafx.scene.paint.Color;
 import javafx.scene.layout.GridPane;
 import javafx.scene.shape.Rectangle;
 
-/** Class which converts {@link maze.routing.RouteFinder} objects to {@link javafx.scene.layout.GridPane} objects.
+/** Class which converts {@link maze.routing.RouteFinder} objects to {@link javafx.scene.layout.GridPane} objects, or to a {@link MazeImage} for large mazes.
+* <p>The view is built once and kept up to date: after every step only the cells whose route status changed are repainted.</p>
+* <p>The RouteFinder is locked while it is stepped, saved or read for a refresh, so a {@link SolveTask} can advance it from another thread.</p>
 * @author Andrei Hutu
 * @version 29th April 2021
 * @see maze.routing.RouteFinder 
@@ -20,6 +23,34 @@ public class MazeGrid{
 	*	{@link maze.routing.RouteFinder} object to be represented as {@link javafx.scene.layout.GridPane}	
 	*/
 	private RouteFinder rf;
+	/**
+	*	Largest number of cells displayed as one {@link javafx.scene.shape.Rectangle} each, larger mazes are painted into a {@link MazeImage}
+	*/
+	private static final int MAX_NODE_CELLS = 10000;
+	/**
+	*	Persistent representation of {@link #rf}, null until first displayed
+	*/
+	private Node view;
+	/**
+	*	Cell of the {@link javafx.scene.layout.GridPane} view for every cell of the maze, indexed like {@link maze.Maze#getTile(int)}
+	*/
+	private Rectangle[] cells;
+	/**
+	*	Image view for large mazes, null if the maze is displayed as a GridPane
+	*/
+	private MazeImage image;
+	/**
+	*	Route status of every cell, as currently displayed
+	*/
+	private BitSet onRoute;
+	/**
+	*	Route currently highlighted in {@link #view}, as cell indices
+	*/
+	private int[] shown;
+	/**
+	*	Number of cells in {@link #shown}
+	*/
+	private int shownLength;
 
 	/**
 	*	Constructs new MazeGrid from specific file path.
@@ -46,12 +77,22 @@ public class MazeGrid{
 		rf = rfIn;
 	}
 
+	/**
+	*	Returns {@link maze.routing.RouteFinder} object displayed by the grid.
+	*	@return Returns RouteFinder object.
+	*/
+	RouteFinder getRouteFinder(){
+		return rf;
+	}
+
 	/**
 	*	Returns finish status of {@link maze.routing.RouteFinder} object.
 	*	@return Returns finish status of RouteFinder object.
 	*/
 	public boolean isFinished(){
-		return rf.isFinished();
+		synchronized(rf){
+			return rf.isFinished();
+		}
 	}
 
 	/**
@@ -60,44 +101,170 @@ public class MazeGrid{
 	*	@throws maze.routing.NoRouteFoundException if the maze does not have a possible solution
 	*/
 	public boolean step() throws NoRouteFoundException{
-		return rf.step();
+		try{
+			synchronized(rf){
+				return rf.step();
+			}
+		}finally{
+			refresh();
+		}
+	}
+
+	/**
+	*	Makes up to n steps in {@link maze.routing.RouteFinder}, then repaints the grid once.
+	*	@param n maximum number of steps
+	*	@return Returns status of the route and number of steps made.
+	*	@throws IllegalArgumentException if n is negative
+	*/
+	public SolveResult step(int n){
+		SolveResult result;
+		synchronized(rf){
+			result = rf.step(n);
+		}
+		refresh();
+		return result;
+	}
+
+	/**
+	*	Makes steps in {@link maze.routing.RouteFinder} until the maze is finished or found to have no solution.
+	*	@return Returns status of the route and number of steps made.
+	*/
+	public SolveResult solve(){
+		SolveResult result;
+		synchronized(rf){
+			result = rf.solve();
+		}
+		refresh();
+		return result;
 	}
 
 	/**
 	*	Save RouteFinder object to file.
 	*	@param path Path to file
 	*	@throws java.io.FileNotFoundException if the file exists but is a directory rather than a regular file, does not exist but cannot be created, or cannot be opened for any other reason
-	*	@throws java.io.IOException if an I/O error occurs while writing stream header
+	*	@throws java.io.IOException if an I/O error occurs while writing
 	*/
 	public void save(String path) throws FileNotFoundException, IOException{
-		rf.save(path);
+		synchronized(rf){
+			rf.save(path);
+		}
+	}
+
+	/**
+	*	Returns {@link javafx.scene.Node} representation of {@link maze.routing.RouteFinder}: a {@link javafx.scene.layout.GridPane} with one {@link javafx.scene.shape.Rectangle} per tile, or a {@link MazeImage} view for mazes over {@link #MAX_NODE_CELLS} cells.
+	*	<p>The same Node is returned on every call and is updated in place as the route changes.</p>
+	*	@return Returns Node representation of RouteFinder.
+	*/
+	public Node display(){
+		if(view == null){
+			Maze maze = rf.getMaze();
+			int nr_rows = maze.getHeight();
+			int nr_col = maze.getWidth();
+			onRoute = new BitSet(nr_rows * nr_col);
+			shown = new int[16];
+			shownLength = 0;
+
+			if((long)nr_rows * nr_col > MAX_NODE_CELLS){
+				image = new MazeImage(maze, onRoute, 725.0, 525.0);
+				view = image.getView();
+			}else{
+				GridPane grid = new GridPane();
+				cells = new Rectangle[nr_rows * nr_col];
+				// Set tile size
+				double tile_width = 725.0 / nr_col;
+				double tile_height = 525.0 / nr_rows;
+				double tile_size = Math.min(tile_width, tile_height);
+				// Row by row (up -> down)
+				for(int i = nr_rows - 1; i>=0; i--){
+					// Col by col (left -> right)
+					for(int j = 0; j < nr_col; j++){
+						// Add cell to grid
+						int index = i * nr_col + j;
+						TileCell tc = new TileCell(maze.getTile(index), tile_size, false);
+						cells[index] = tc.getCell();
+						grid.add(cells[index], j, nr_rows - i - 1);
+					}
+				}
+				view = grid;
+			}
+		}
+		refresh();
+		return view;
 	}
 
 	/**
-	*	Returns {@link javafx.scene.layout.GridPane} representation of {@link maze.routing.RouteFinder}.
-	*	@return Returns GridPane representation of RouteFinder.
-	*/
-	public GridPane display(){
-		GridPane grid = new GridPane();
-		List<List<Tile>> tiles = rf.getMaze().getTiles();
-		List<Tile> list = rf.getRoute();
-		int nr_rows = tiles.size();
-		// Row by row (up -> down)
-		for(int i = nr_rows - 1; i>=0; i--){
-			List<Tile> row = tiles.get(i);
-			int nr_col = row.size();
-			// Set tile size
-			double tile_width = 725.0 / nr_col;
-			double tile_height = 525.0 / nr_rows;
-			double tile_size = Math.min(tile_width, tile_height);
-			// Col by col (left -> right)
-			for(int j = 0; j < nr_col; j++){
-				// Add cell to grid
-				TileCell tc = new TileCell(row.get(j), tile_size, list.contains(row.get(j)));
-				grid.add(tc.getCell(), j, nr_rows - i - 1);
+	*	Repaints the cells of the view whose route status changed since the last refresh.
+	*	<p>Positions of the route before {@link maze.routing.RouteFinder#getLowestDepth()} are unchanged, so only the cells after it are repainted and the cost of a refresh depends only on how many cells changed. If that is more cells than the image has pixels, the whole image is repainted instead, so the cost stays bounded however many steps were made since the last refresh.</p>
+	*/
+	public void refresh(){
+		if(view == null)
+			return;
+		synchronized(rf){
+			int length = rf.getRouteLength();
+
+			// Route unchanged before the lowest depth reached since the last refresh
+			int common = Math.min(rf.getLowestDepth(), Math.min(length, shownLength));
+			rf.resetLowestDepth();
+
+			// Whole image cheaper than the changed cells
+			long changed = (long)(shownLength - common) + (length - common);
+			boolean repaint_all = image != null && changed > image.getPixelCount();
+
+			// Remove cells no longer on the route
+			for(int i = common; i < shownLength; i++)
+				paint(shown[i], false, !repaint_all);
+
+			// Highlight cells new on the route
+			if(length > shown.length)
+				shown = Arrays.copyOf(shown, Math.max(length, shown.length * 2));
+			for(int i = common; i < length; i++){
+				int cell = rf.getRouteIndex(i);
+				shown[i] = cell;
+				paint(cell, true, !repaint_all);
 			}
+			shownLength = length;
+
+			if(repaint_all)
+				image.paintAll();
+		}
+	}
+
+	/**
+	*	Updates the route status of one cell of the view.
+	*	@param cell index of the cell
+	*	@param isRoute is the cell part of the route
+	*	@param repaint should the cell be repainted now, false if the whole image is repainted afterwards
+	*/
+	private void paint(int cell, boolean isRoute, boolean repaint){
+		onRoute.set(cell, isRoute);
+		if(!repaint)
+			return;
+		if(image != null)
+			image.paintCell(cell);
+		else
+			cells[cell].setFill(getColor(rf.getMaze().getType(cell), isRoute));
+	}
+
+	/**
+	*	Returns colour of a cell.
+	*	@param type type of the Tile in the cell
+	*	@param isRoute is the Tile part of the route
+	*	@return Returns colour of the cell or null if the Tile type cannot be represented.
+	*/
+	private static Color getColor(Tile.Type type, boolean isRoute){
+		if(isRoute)
+			return Color.BLUE;
+		switch (type) {
+			case ENTRANCE:
+				return Color.GREEN;
+			case CORRIDOR:
+				return Color.WHITE;
+			case WALL:
+				return Color.BLACK;
+			case EXIT:
+				return Color.RED;
 		}
-		return grid;
+		return null;
 	}
 
 	/** Class which converts {@link maze.Tile} objects to {@link javafx.scene.shape.Rectangle} objects.
@@ -137,20 +304,10 @@ public class MazeGrid{
 		*	@return Returns new Rectangle representation of Tile object or null if Tile cannot be represented.
 		*/
 		public Rectangle getCell(){
-			if(isRoute)
-				return new Rectangle(size, size, Color.BLUE);
-			Tile.Type type = tile.getType();
-			switch (type) {
-				case ENTRANCE:
-					return new Rectangle(size, size, Color.GREEN);
-				case CORRIDOR:
-					return new Rectangle(size, size, Color.WHITE);
-				case WALL:
-					return new Rectangle(size, size, Color.BLACK);
-				case EXIT:
-					return new Rectangle(size, size, Color.RED);
-			}
-			return null;
-		}  
+			Color color = getColor(tile.getType(), isRoute);
+			if(color == null)
+				return null;
+			return new Rectangle(size, size, color);
+		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,196 @@
+package maze.visualisation;
+
+import maze.*;
+import java.util.*;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/** Class which paints a {@link maze.Maze} and its route into a {@link javafx.scene.image.WritableImage}, straight from the packed grid.
+* <p>Each tile is painted as a square block of pixels, as large as fits in the display area. Mazes wider or taller than {@link #MAX_IMAGE_SIZE} pixels are scaled down, each pixel then standing for a square of tiles.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+* @see MazeGrid
+*/
+public class MazeImage{
+	/**
+	*	Largest width or height of the image in pixels
+	*/
+	private static final int MAX_IMAGE_SIZE = 4096;
+	/**
+	*	ARGB colour of route tiles
+	*/
+	private static final int ROUTE = argb(Color.BLUE);
+	/**
+	*	ARGB colour of every Tile type, indexed by ordinal
+	*/
+	private static final int[] TYPE_COLORS = {
+		argb(Color.WHITE), argb(Color.GREEN), argb(Color.RED), argb(Color.BLACK)
+	};
+
+	/**
+	*	Maze to be painted
+	*/
+	private Maze maze;
+	/**
+	*	Route status of every cell of {@link #maze}
+	*/
+	private BitSet route;
+	/**
+	*	Pixels per tile side, when tiles are not scaled down
+	*/
+	private int block;
+	/**
+	*	Tiles per pixel side, when tiles are scaled down
+	*/
+	private int scale;
+	/**
+	*	Image painted into
+	*/
+	private WritableImage image;
+	/**
+	*	View of {@link #image} sized to the display area
+	*/
+	private ImageView view;
+
+	/**
+	*	Constructs new MazeImage and paints the whole maze.
+	*	@param mazeIn Maze to be painted
+	*	@param routeIn route status of every cell of the maze, kept up to date by the caller
+	*	@param maxWidth width of the display area in pixels
+	*	@param maxHeight height of the display area in pixels
+	*/
+	public MazeImage(Maze mazeIn, BitSet routeIn, double maxWidth, double maxHeight){
+		maze = mazeIn;
+		route = routeIn;
+		int width = Math.max(maze.getWidth(), 1);
+		int height = Math.max(maze.getHeight(), 1);
+
+		// Zoom level: whole pixels per tile, or whole tiles per pixel
+		block = Math.max(1, (int)Math.min(maxWidth / width, maxHeight / height));
+		scale = Math.max(1, (Math.max(width, height) + MAX_IMAGE_SIZE - 1) / MAX_IMAGE_SIZE);
+		int image_width = (width + scale - 1) / scale * block;
+		int image_height = (height + scale - 1) / scale * block;
+		image = new WritableImage(image_width, image_height);
+
+		// Fit display area, keeping tiles square
+		double fit = Math.min(1.0, Math.min(maxWidth / image_width, maxHeight / image_height));
+		view = new ImageView(image);
+		view.setFitWidth(image_width * fit);
+		view.setFitHeight(image_height * fit);
+		view.setSmooth(fit < 1.0);
+
+		paintAll();
+	}
+
+	/**
+	*	Returns {@link javafx.scene.image.ImageView} displaying the maze.
+	*	@return Returns ImageView displaying the maze.
+	*/
+	public ImageView getView(){
+		return view;
+	}
+
+	/**
+	*	Returns number of scaled pixels in the image, each standing for one tile or a square of tiles.
+	*	@return Returns number of scaled pixels.
+	*/
+	public long getPixelCount(){
+		return (long)((int)image.getWidth() / block) * ((int)image.getHeight() / block);
+	}
+
+	/**
+	*	Repaints the pixels of one cell, after its route status changed.
+	*	@param index index of the cell (y * width + x)
+	*/
+	public void paintCell(int index){
+		int width = maze.getWidth();
+		int px = index % width / scale;
+		int py = (maze.getHeight() - 1 - index / width) / scale;
+		int color = pixelColor(px, py);
+		PixelWriter writer = image.getPixelWriter();
+		for(int dy = 0; dy < block; dy++){
+			for(int dx = 0; dx < block; dx++)
+				writer.setArgb(px * block + dx, py * block + dy, color);
+		}
+	}
+
+	/**
+	*	Repaints the whole image, one row of pixels at a time.
+	*/
+	public void paintAll(){
+		PixelWriter writer = image.getPixelWriter();
+		int image_width = (int)image.getWidth();
+		int[] row = new int[image_width];
+		int nr_px = image_width / block;
+		int nr_py = (int)image.getHeight() / block;
+		for(int py = 0; py < nr_py; py++){
+			for(int px = 0; px < nr_px; px++){
+				int color = pixelColor(px, py);
+				Arrays.fill(row, px * block, (px + 1) * block, color);
+			}
+			for(int dy = 0; dy < block; dy++)
+				writer.setPixels(0, py * block + dy, image_width, 1, PixelFormat.getIntArgbInstance(), row, 0, image_width);
+		}
+	}
+
+	/**
+	*	Returns colour of the scaled pixel (px, py), counted from the top left corner.
+	*	<p>When several tiles share a pixel, route tiles are shown first, then the entrance and exit, and otherwise the average colour of the tiles.</p>
+	*	@param px pixel column
+	*	@param py pixel row
+	*	@return Returns ARGB colour of the pixel.
+	*/
+	private int pixelColor(int px, int py){
+		int width = maze.getWidth();
+		int height = maze.getHeight();
+		int x0 = px * scale;
+		int top = height - 1 - py * scale;
+		int x1 = Math.min(x0 + scale, width);
+		int y1 = Math.max(top - scale, -1);
+
+		// One tile per pixel
+		if(scale == 1){
+			int index = top * width + x0;
+			return route.get(index) ? ROUTE : TYPE_COLORS[maze.getType(index).ordinal()];
+		}
+
+		int special = 0;
+		int red = 0;
+		int green = 0;
+		int blue = 0;
+		int count = 0;
+		for(int y = top; y > y1; y--){
+			for(int x = x0; x < x1; x++){
+				int index = y * width + x;
+				if(route.get(index))
+					return ROUTE;
+				Tile.Type type = maze.getType(index);
+				int color = TYPE_COLORS[type.ordinal()];
+				if(type == Tile.Type.ENTRANCE || type == Tile.Type.EXIT)
+					special = color;
+				red += (color >> 16) & 0xff;
+				green += (color >> 8) & 0xff;
+				blue += color & 0xff;
+				count++;
+			}
+		}
+		if(special != 0)
+			return special;
+		return 0xff000000 | (red / count) << 16 | (green / count) << 8 | (blue / count);
+	}
+
+	/**
+	*	Returns ARGB value of a colour.
+	*	@param color colour
+	*	@return Returns ARGB value of colour.
+	*/
+	private static int argb(Color color){
+		return ((int)Math.round(color.getOpacity() * 255) << 24)
+			| ((int)Math.round(color.getRed() * 255) << 16)
+			| ((int)Math.round(color.getGreen() * 255) << 8)
+			| (int)Math.round(color.getBlue() * 255);
+	}
+}
@@ -0,0 +1,137 @@
+package maze.visualisation;
+
+import maze.routing.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javafx.application.Platform;
+import javafx.concurrent.Task;
+
+/** Class which solves the maze of a {@link MazeGrid} on a background thread.
+* <p>The {@link maze.routing.RouteFinder} is advanced in short batches, and the grid is refreshed on the JavaFX application thread at most {@link #FRAME_RATE} times per second, so the window stays responsive while a long solve runs. The task can be paused and cancelled between batches.</p>
+* @author Andrei Hutu
+* @version 18th October 2026
+* @see MazeGrid
+*/
+public class SolveTask extends Task<SolveResult>{
+	/**
+	*	Number of steps made between two checks for pause, cancel and refresh
+	*/
+	private static final int BATCH_SIZE = 100000;
+	/**
+	*	Maximum number of grid refreshes per second
+	*/
+	private static final int FRAME_RATE = 30;
+	/**
+	*	Minimum time between two grid refreshes in nanoseconds
+	*/
+	private static final long FRAME_NANOS = 1000000000L / FRAME_RATE;
+
+	/**
+	*	Grid displaying the route being solved
+	*/
+	private MazeGrid grid;
+	/**
+	*	Is the task paused? Guarded by {@link #pauseLock}
+	*/
+	private boolean paused;
+	/**
+	*	Lock the worker thread waits on while paused
+	*/
+	private final Object pauseLock = new Object();
+	/**
+	*	Is a grid refresh already queued on the JavaFX application thread?
+	*/
+	private final AtomicBoolean refreshQueued = new AtomicBoolean();
+
+	/**
+	*	Constructs new SolveTask for a specific grid.
+	*	@param gridIn MazeGrid to be solved
+	*/
+	public SolveTask(MazeGrid gridIn){
+		grid = gridIn;
+	}
+
+	/**
+	*	Makes steps in the {@link maze.routing.RouteFinder} until the maze is finished, found to have no solution or the task is cancelled.
+	*	@return Returns status of the route and number of steps made by this task.
+	*	@throws InterruptedException if the task is interrupted while paused
+	*/
+	@Override
+	protected SolveResult call() throws InterruptedException{
+		RouteFinder rf = grid.getRouteFinder();
+		SolveResult.Status status = SolveResult.Status.RUNNING;
+		long total = 0;
+		long last_frame = System.nanoTime();
+		try{
+			while(status == SolveResult.Status.RUNNING && !isCancelled()){
+				SolveResult result;
+				synchronized(rf){
+					result = rf.step(BATCH_SIZE);
+				}
+				status = result.getStatus();
+				total += result.getSteps();
+
+				// Throttled refresh
+				long now = System.nanoTime();
+				if(now - last_frame >= FRAME_NANOS){
+					last_frame = now;
+					updateMessage(total + " steps");
+					queueRefresh();
+				}
+
+				// Wait while paused
+				synchronized(pauseLock){
+					if(paused)
+						queueRefresh();
+					while(paused && !isCancelled())
+						pauseLock.wait();
+				}
+			}
+		}finally{
+			queueRefresh();
+		}
+		updateMessage(total + " steps");
+		return new SolveResult(status, total);
+	}
+
+	/**
+	*	Pauses or resumes the task.
+	*	@param pausedIn should the task be paused
+	*/
+	public void setPaused(boolean pausedIn){
+		synchronized(pauseLock){
+			paused = pausedIn;
+			pauseLock.notifyAll();
+		}
+	}
+
+	/**
+	*	Returns pause status of the task.
+	*	@return Returns if the task is paused.
+	*/
+	public boolean isPaused(){
+		synchronized(pauseLock){
+			return paused;
+		}
+	}
+
+	/**
+	*	Starts the task on a new daemon thread.
+	*/
+	public void start(){
+		Thread thread = new Thread(this, "maze-solver");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	*	Queues a refresh of the grid on the JavaFX application thread, unless one is already queued.
+	*/
+	private void queueRefresh(){
+		if(refreshQueued.compareAndSet(false, true)){
+			Platform.runLater(() -> {
+				refreshQueued.set(false);
+				grid.refresh();
+			});
+		}
+	}
+}